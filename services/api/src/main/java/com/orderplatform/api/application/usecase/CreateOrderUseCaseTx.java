@@ -1,57 +1,192 @@
 package com.orderplatform.api.application.usecase;
 
 import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import com.orderplatform.api.infrastructure.persistence.IdempotencyKeyCache;
+import com.orderplatform.core.application.model.CreatedOrder;
 import com.orderplatform.core.application.port.OrderEventPublisher;
 import com.orderplatform.core.application.usecase.CreateOrderUseCase;
+import com.orderplatform.core.application.usecase.CreateOrderWithOutboxUseCase;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
 @Service
 public class CreateOrderUseCaseTx {
 
     private final CreateOrderUseCase useCase;
+    private final CreateOrderWithOutboxUseCase outboxUseCase;
     private final OrderEventPublisher eventPublisher;
     private final ApiMetrics apiMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyKeyCache idempotencyKeys;
 
     public CreateOrderUseCaseTx(CreateOrderUseCase useCase,
+                                ObjectProvider<CreateOrderWithOutboxUseCase> outboxUseCase,
                                 OrderEventPublisher eventPublisher,
-                                ApiMetrics apiMetrics) {
+                                ApiMetrics apiMetrics,
+                                TransactionTemplate transactionTemplate,
+                                IdempotencyKeyCache idempotencyKeys) {
         this.useCase = useCase;
+        this.outboxUseCase = outboxUseCase.getIfAvailable();
         this.eventPublisher = eventPublisher;
         this.apiMetrics = apiMetrics;
+        this.transactionTemplate = transactionTemplate;
+        this.idempotencyKeys = idempotencyKeys;
     }
 
-
-    @Transactional
+    /**
+     * outbox mode: order + outbox row in one statement (atomic, one round trip, no transaction needed).
+     * other modes: order saved in a transaction, event published after commit.
+     */
     public UUID execute() {
-        try {
-            return apiMetrics.recordCreateOrder(() -> {
+        return timed(() -> {
+            UUID orderId = outboxUseCase != null ? createWithOutbox() : createThenPublish();
+            apiMetrics.incOrdersCreated();
+            return orderId;
+        });
+    }
 
-                Instant now = Instant.now();
-                UUID orderId = useCase.execute(now);
+    /**
+     * Idempotency-Key variant: a known key gets its original order back (from the LRU, else from the key
+     * table, which is written in the same atomic unit as the order) and nothing is created or published again.
+     */
+    public CreatedOrder execute(String idempotencyKey) {
+        Optional<UUID> known = idempotencyKeys.get(idempotencyKey);
+        if (known.isPresent()) {
+            apiMetrics.incIdempotentReplay("cache");
+            return new CreatedOrder(known.get(), true);
+        }
+
+        CreatedOrder result = timed(() -> outboxUseCase != null
+                ? createWithOutbox(idempotencyKey)
+                : createThenPublish(idempotencyKey));
+
+        if (result.replayed()) {
+            apiMetrics.incIdempotentReplay("db");
+        } else {
+            apiMetrics.incOrdersCreated();
+        }
+        idempotencyKeys.put(idempotencyKey, result.orderId());
+        return result;
+    }
 
-                apiMetrics.incOrdersCreated();
+    /**
+     * Bulk intake: count orders committed together and returned once durable.
+     * outbox mode: one multi-row statement for orders + events.
+     * other modes: one transaction for the orders, events published after commit.
+     */
+    public List<UUID> executeBatch(int count) {
+        if (count <= 0) return List.of();
+
+        List<UUID> ids;
+        if (outboxUseCase != null) {
+            try {
+                ids = outboxUseCase.executeBatch(count, Instant.now(), MDC.get("correlationId"));
+            } catch (RuntimeException ex) {
+                apiMetrics.incEventPublishFailed("outbox");
+                throw ex;
+            }
+            apiMetrics.incEventPublished("outbox", ids.size());
+        } else {
+            ids = transactionTemplate.execute(tx -> {
+                Instant now = Instant.now();
+                List<UUID> created = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    created.add(useCase.execute(now));
+                }
 
                 TransactionSynchronizationManager.registerSynchronization(
                         new TransactionSynchronization() {
                             @Override
                             public void afterCommit() {
-                                eventPublisher.publishOrderCreated(orderId);
+                                created.forEach(eventPublisher::publishOrderCreated);
                             }
                         }
                 );
-
-                return orderId;
+                return created;
             });
+        }
+        apiMetrics.incOrdersCreated(ids.size());
+        return ids;
+    }
+
+    private UUID createWithOutbox() {
+        try {
+            UUID orderId = outboxUseCase.execute(Instant.now(), MDC.get("correlationId"));
+            apiMetrics.incEventPublished("outbox");
+            return orderId;
+        } catch (RuntimeException ex) {
+            apiMetrics.incEventPublishFailed("outbox");
+            throw ex;
+        }
+    }
+
+    private CreatedOrder createWithOutbox(String idempotencyKey) {
+        try {
+            CreatedOrder result = outboxUseCase.execute(Instant.now(), MDC.get("correlationId"), idempotencyKey);
+            if (!result.replayed()) {
+                apiMetrics.incEventPublished("outbox");
+            }
+            return result;
+        } catch (RuntimeException ex) {
+            apiMetrics.incEventPublishFailed("outbox");
+            throw ex;
+        }
+    }
+
+    private CreatedOrder createThenPublish(String idempotencyKey) {
+        return transactionTemplate.execute(tx -> {
+            CreatedOrder result = useCase.execute(Instant.now(), idempotencyKey);
+            if (result.replayed()) {
+                return result;
+            }
+
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            eventPublisher.publishOrderCreated(result.orderId());
+                        }
+                    }
+            );
+            return result;
+        });
+    }
+
+    private UUID createThenPublish() {
+        return transactionTemplate.execute(tx -> {
+            UUID orderId = useCase.execute(Instant.now());
+
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            eventPublisher.publishOrderCreated(orderId);
+                        }
+                    }
+            );
+
+            return orderId;
+        });
+    }
+
+    private <T> T timed(Callable<T> create) {
+        try {
+            return apiMetrics.recordCreateOrder(create);
+        } catch (RuntimeException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
-
 }
-
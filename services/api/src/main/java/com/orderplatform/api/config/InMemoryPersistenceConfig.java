@@ -0,0 +1,116 @@
+package com.orderplatform.api.config;
+
+import com.orderplatform.api.infrastructure.observability.OutboxBacklog;
+import com.orderplatform.core.infrastructure.inmemory.InMemoryOrderDlqRepository;
+import com.orderplatform.core.infrastructure.inmemory.InMemoryOrderIdempotencyRepository;
+import com.orderplatform.core.infrastructure.inmemory.InMemoryOrderOutboxWriter;
+import com.orderplatform.core.infrastructure.inmemory.InMemoryOrderRepository;
+import com.orderplatform.core.infrastructure.inmemory.InMemoryOutboxRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+/**
+ * order.persistence.mode=inmemory (standalone profile): every port on the in-memory adapters from core,
+ * no DataSource. The JDBC/JPA adapters are conditional on order.persistence.mode=jdbc.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "inmemory")
+public class InMemoryPersistenceConfig {
+
+    @Bean
+    public InMemoryOrderRepository orderRepository() {
+        return new InMemoryOrderRepository();
+    }
+
+    @Bean
+    public InMemoryOrderDlqRepository orderDlqRepository() {
+        return new InMemoryOrderDlqRepository();
+    }
+
+    @Bean
+    public InMemoryOrderIdempotencyRepository orderIdempotencyRepository() {
+        return new InMemoryOrderIdempotencyRepository();
+    }
+
+    @Bean
+    public InMemoryOutboxRepository outboxRepository() {
+        return new InMemoryOutboxRepository();
+    }
+
+    @Bean
+    public InMemoryOrderOutboxWriter orderOutboxWriter(InMemoryOrderRepository orders,
+                                                       InMemoryOutboxRepository outbox,
+                                                       InMemoryOrderIdempotencyRepository idempotencyKeys) {
+        return new InMemoryOrderOutboxWriter(orders, outbox, idempotencyKeys);
+    }
+
+    @Bean
+    public OutboxBacklog outboxBacklog(InMemoryOutboxRepository outbox) {
+        return new OutboxBacklog() {
+            @Override
+            public long backlog() {
+                return outbox.backlog();
+            }
+
+            @Override
+            public long processing() {
+                return outbox.processing();
+            }
+
+            @Override
+            public double oldestPendingAgeSeconds() {
+                Instant oldest = outbox.oldestLiveCreatedAt();
+                if (oldest == null) return 0.0;
+                return Math.max(0, System.currentTimeMillis() - oldest.toEpochMilli()) / 1000.0;
+            }
+        };
+    }
+
+    // @Transactional / TransactionTemplate keep working (after-commit hooks included); there is nothing to roll back
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new InMemoryTransactionManager();
+    }
+
+    static class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return TransactionSynchronizationManager.isActualTransactionActive();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return (Boolean) transaction;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            return null;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
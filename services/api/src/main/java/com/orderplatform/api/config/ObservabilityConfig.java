@@ -0,0 +1,29 @@
+package com.orderplatform.api.config;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import com.orderplatform.common.observability.MicrometerProcessOrderInstrumentation;
+import com.orderplatform.common.observability.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "order.metrics.stage-timers.enabled", havingValue = "true", matchIfMissing = true)
+    public MicrometerProcessOrderInstrumentation micrometerProcessOrderInstrumentation(ApiMetrics metrics) {
+        return new MicrometerProcessOrderInstrumentation(metrics::processStageTimer);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            ApiMetrics metrics,
+            @Value("${order.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs), metrics::recordVirtualThreadPinned);
+    }
+}
@@ -1,18 +1,35 @@
 package com.orderplatform.api.config;
 
+import com.orderplatform.api.infrastructure.persistence.CachingOrderRepository;
+import com.orderplatform.common.config.RetryPolicyConfig;
 import com.orderplatform.core.application.port.OrderDlqRepository;
+import com.orderplatform.core.application.port.OrderIdempotencyRepository;
+import com.orderplatform.core.application.port.OrderOutboxWriter;
 import com.orderplatform.core.application.port.OrderProcessor;
 import com.orderplatform.core.application.port.OrderRepository;
+import com.orderplatform.core.application.port.ProcessOrderInstrumentation;
 import com.orderplatform.core.application.usecase.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
 @Configuration
+@Import(RetryPolicyConfig.class)
 public class UseCaseConfig {
 
     @Bean
-    public CreateOrderUseCase createOrderUseCase(OrderRepository orderRepository) {
-        return new CreateOrderUseCase(orderRepository);
+    public CreateOrderUseCase createOrderUseCase(OrderRepository orderRepository,
+                                                 OrderIdempotencyRepository idempotencyRepository) {
+        return new CreateOrderUseCase(orderRepository, idempotencyRepository);
+    }
+
+    // outbox mode: order and event in one atomic write instead of save + after-commit enqueue
+    @Bean
+    @ConditionalOnProperty(name = "order.events.mode", havingValue = "outbox")
+    public CreateOrderWithOutboxUseCase createOrderWithOutboxUseCase(OrderOutboxWriter writer) {
+        return new CreateOrderWithOutboxUseCase(writer);
     }
 
     @Bean
@@ -25,18 +42,21 @@ public class UseCaseConfig {
         return new ReprocessDlqEntryUseCase(dlqRepository, orderRepository);
     }
 
+    // the only reader of the query cache: status polls may be a few hundred ms stale, nothing else may
     @Bean
-    public GetOrderUseCase getOrderUseCase(OrderRepository orderRepository) {
-        return new GetOrderUseCase(orderRepository);
+    public GetOrderUseCase getOrderUseCase(OrderRepository orderRepository,
+                                           ObjectProvider<CachingOrderRepository> queryCache) {
+        OrderRepository cached = queryCache.getIfAvailable();
+        return new GetOrderUseCase(cached != null ? cached : orderRepository);
     }
 
     @Bean
     public ProcessOrderUseCase processOrderUseCase(OrderRepository orderRepository,
                                                    OrderDlqRepository dlqRepository,
-                                                   OrderProcessor orderProcessor) {
-        return new ProcessOrderUseCase(orderRepository, dlqRepository, orderProcessor);
+                                                   OrderProcessor orderProcessor,
+                                                   ObjectProvider<ProcessOrderInstrumentation> instrumentation) {
+        return new ProcessOrderUseCase(orderRepository, dlqRepository, orderProcessor,
+                instrumentation.getIfAvailable(() -> ProcessOrderInstrumentation.NOOP));
     }
-
-
-
 }
+
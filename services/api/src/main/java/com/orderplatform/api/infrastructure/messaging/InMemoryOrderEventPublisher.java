@@ -1,5 +1,6 @@
 package com.orderplatform.api.infrastructure.messaging;
 
+import com.orderplatform.api.infrastructure.worker.OrderWorker;
 import com.orderplatform.core.application.port.OrderEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,14 +16,21 @@ public class InMemoryOrderEventPublisher implements OrderEventPublisher {
     private static final Logger log = LoggerFactory.getLogger(InMemoryOrderEventPublisher.class);
 
     private final InMemoryOrderQueue queue;
+    private final OrderWorker orderWorker;
 
-    public InMemoryOrderEventPublisher(InMemoryOrderQueue queue) {
+    public InMemoryOrderEventPublisher(InMemoryOrderQueue queue, OrderWorker orderWorker) {
         this.queue = queue;
+        this.orderWorker = orderWorker;
     }
 
     @Override
     public void publishOrderCreated(UUID orderId) {
-        queue.publish(orderId);
+        if (!queue.publish(orderId)) {
+            // the order is already committed: nothing else in this mode would pick it up, so it must not be lost
+            orderWorker.publishLater(orderId);
+            log.warn("In-memory queue full, OrderCreated(orderId={}) deferred to the retry lane", orderId);
+            return;
+        }
         log.info("Enqueued event: OrderCreated(orderId={})", orderId);
     }
 }
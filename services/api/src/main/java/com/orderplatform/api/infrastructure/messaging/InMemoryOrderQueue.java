@@ -1,21 +1,119 @@
 package com.orderplatform.api.infrastructure.messaging;
 
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Bounded in-memory order queue ({@link MpmcRingBuffer}) shared by the publisher and all worker threads.
+ *
+ * Full queue = backpressure: publish waits up to publish-timeout-ms for a slot (the caller, usually the
+ * request thread after commit, is slowed down) and reports false if none frees up; it spins briefly, then
+ * parks with a growing pause (max 1 ms), which only happens under overload.
+ *
+ * An empty queue blocks: a consumer spins briefly, then sleeps on a condition until a publish signals it,
+ * so idle worker threads do not wake up at all. Publishers only take the lock when a consumer is asleep.
+ */
 @Component
 public class InMemoryOrderQueue {
 
-    private final BlockingQueue<UUID> queue = new LinkedBlockingQueue<>();
+    private static final int SPINS = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
 
-    public void publish(UUID orderId) {
-        queue.offer(orderId);
+    private final MpmcRingBuffer<Entry> ring;
+    private final long publishTimeoutNanos;
+    private final ApiMetrics apiMetrics;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final AtomicInteger sleepingConsumers = new AtomicInteger();
+
+    public InMemoryOrderQueue(@Value("${order.inmemory.queue.capacity:8192}") int capacity,
+                              @Value("${order.inmemory.queue.publish-timeout-ms:1000}") long publishTimeoutMs,
+                              ApiMetrics apiMetrics) {
+        this.ring = new MpmcRingBuffer<>(capacity);
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMs);
+        this.apiMetrics = apiMetrics;
+        apiMetrics.registerInMemoryQueueDepth(ring, MpmcRingBuffer::size);
+    }
+
+    /** false when the queue stayed full for publish-timeout-ms (or the caller was interrupted). */
+    public boolean publish(UUID orderId) {
+        Entry entry = new Entry(orderId, System.nanoTime());
+        if (!ring.offer(entry)) {
+            long deadline = entry.enqueuedAtNanos() + publishTimeoutNanos;
+            int idle = 0;
+            while (!ring.offer(entry)) {
+                if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                    apiMetrics.incInMemoryQueueRejected();
+                    return false;
+                }
+                idle = pause(idle);
+            }
+        }
+        // offer then read sleepingConsumers, while take counts itself then re-polls: one of us sees the other
+        if (sleepingConsumers.get() > 0) {
+            lock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return true;
     }
 
     public UUID take() throws InterruptedException {
-        return queue.take();
+        Entry entry = ring.poll();
+        for (int spins = 0; entry == null && spins < SPINS; spins++) {
+            if (Thread.interrupted()) throw new InterruptedException();
+            Thread.onSpinWait();
+            entry = ring.poll();
+        }
+        if (entry == null) {
+            entry = awaitEntry();
+        }
+        apiMetrics.recordInMemoryQueueWait(System.nanoTime() - entry.enqueuedAtNanos());
+        return entry.orderId();
+    }
+
+    private Entry awaitEntry() throws InterruptedException {
+        lock.lockInterruptibly();
+        sleepingConsumers.incrementAndGet();
+        try {
+            Entry entry;
+            while ((entry = ring.poll()) == null) {
+                notEmpty.await();
+            }
+            return entry;
+        } finally {
+            sleepingConsumers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    public int depth() {
+        return ring.size();
+    }
+
+    private static int pause(int idle) {
+        if (idle < SPINS) {
+            Thread.onSpinWait();
+        } else {
+            // 1us, 2us, 4us ... capped at 1 ms
+            int shift = Math.min(idle - SPINS, 10);
+            LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, 1_000L << shift));
+        }
+        return idle + 1;
+    }
+
+    private record Entry(UUID orderId, long enqueuedAtNanos) {
     }
 }
@@ -0,0 +1,88 @@
+package com.orderplatform.api.infrastructure.messaging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer/multi-consumer queue (array of slots with per-slot sequence numbers).
+ *
+ * A slot's sequence says whose turn it is: == position means free for the producer claiming that
+ * position, == position + 1 means filled for the consumer claiming it. Producers and consumers claim
+ * positions with one CAS on tail/head and never block each other; offer/poll fail fast when full/empty
+ * and the caller decides how to wait.
+ */
+final class MpmcRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong head = new AtomicLong(); // next position to consume
+    private final AtomicLong tail = new AtomicLong(); // next position to produce
+
+    MpmcRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be >= 2");
+        }
+        // power of two so position -> slot is a mask
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(E element) {
+        long pos = tail.get();
+        while (true) {
+            int slot = (int) (pos & mask);
+            long diff = sequences.get(slot) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.lazySet(slot, element);
+                    sequences.set(slot, pos + 1); // publishes the element to consumers
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false; // the slot still holds the element from one lap ago: full
+            } else {
+                pos = tail.get(); // another producer took this position
+            }
+        }
+    }
+
+    E poll() {
+        long pos = head.get();
+        while (true) {
+            int slot = (int) (pos & mask);
+            long diff = sequences.get(slot) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E element = slots.get(slot);
+                    slots.lazySet(slot, null);
+                    sequences.set(slot, pos + capacity); // frees the slot for the producer one lap ahead
+                    return element;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null; // not produced yet: empty
+            } else {
+                pos = head.get(); // another consumer took this position
+            }
+        }
+    }
+
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -31,14 +31,7 @@ public class OutboxOrderEventPublisher implements OrderEventPublisher {
     public void publishOrderCreated(UUID orderId) {
         String correlationId = MDC.get("correlationId");
 
-        String payload = """
-    {"orderId":"%s","correlationId":%s}
-    """.formatted(
-                orderId,
-                correlationId == null ? "null" : "\"" + correlationId + "\""
-        ).trim();
-
-        OutboxEvent event = OutboxEvent.pending(orderId, "OrderCreated", payload, Instant.now());
+        OutboxEvent event = OutboxEvent.orderCreated(orderId, correlationId, Instant.now());
 
         try {
             outboxRepository.enqueue(event);
@@ -1,10 +1,17 @@
 package com.orderplatform.api.infrastructure.observability;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
 @Component
 public class ApiMetrics {
 
@@ -12,6 +19,7 @@ public class ApiMetrics {
 
     private final Counter ordersCreatedTotal;
     private final Timer createOrderTimer;
+    private final Timer inMemoryQueueWaitTimer;
 
     public ApiMetrics(MeterRegistry registry) {
         this.registry = registry;
@@ -24,12 +32,21 @@ public class ApiMetrics {
                 .description("Time spent in the create-order use case (transaction + persistence + event publish)")
                 .publishPercentiles(0.5, 0.95, 0.99)
                 .register(registry);
+
+        this.inMemoryQueueWaitTimer = Timer.builder("order_api_inmemory_queue_wait_seconds")
+                .description("Time an order spent in the in-memory queue before a worker thread took it")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
     }
 
     public void incOrdersCreated() {
         ordersCreatedTotal.increment();
     }
 
+    public void incOrdersCreated(long count) {
+        ordersCreatedTotal.increment(count);
+    }
+
     public <T> T recordCreateOrder(java.util.concurrent.Callable<T> callable) throws Exception {
         return createOrderTimer.recordCallable(callable);
     }
@@ -41,6 +58,13 @@ public class ApiMetrics {
         ).increment();
     }
 
+    public void incEventPublished(String transport, long count) {
+        registry.counter(
+                "order_api_events_published_total",
+                "transport", normalizeTransport(transport)
+        ).increment(count);
+    }
+
     public void incEventPublishFailed(String transport) {
         registry.counter(
                 "order_api_event_publish_failed_total",
@@ -48,6 +72,89 @@ public class ApiMetrics {
         ).increment();
     }
 
+    public void recordGroupCommitBatch(int size) {
+        DistributionSummary.builder("order_api_group_commit_batch_size")
+                .description("Orders written per group-commit transaction")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry)
+                .record(size);
+    }
+
+    public void incIdempotentReplay(String source) {
+        registry.counter("order_api_idempotent_replays_total", "source", source).increment();
+    }
+
+    public void incIdempotencyKeysPurged(long count) {
+        registry.counter("order_api_idempotency_keys_purged_total").increment(count);
+    }
+
+    public void incOrderCacheLookup(String result) {
+        registry.counter("order_api_order_cache_requests_total", "result", result).increment();
+    }
+
+    public <T> void registerOrderCacheSize(T cache, ToDoubleFunction<T> size) {
+        Gauge.builder("order_api_order_cache_size", cache, size)
+                .description("Orders currently held by the GET /orders/{id} read cache")
+                .register(registry);
+    }
+
+    public <T> void registerAwaitWaiters(T waiters, ToDoubleFunction<T> count) {
+        Gauge.builder("order_api_await_waiters", waiters, count)
+                .description("Requests currently parked in GET /orders/{id}/await")
+                .register(registry);
+    }
+
+    public void incAdmissionShed(String endpoint) {
+        registry.counter("order_api_admission_shed_total", "endpoint", endpoint).increment();
+    }
+
+    public <T> void registerAdmissionShedding(T filter, ToDoubleFunction<T> shedding) {
+        Gauge.builder("order_api_admission_shedding", filter, shedding)
+                .description("1 while order creation is being shed because of outbox backlog, else 0")
+                .register(registry);
+    }
+
+    public void recordInMemoryQueueWait(long nanos) {
+        inMemoryQueueWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void incInMemoryQueueRejected() {
+        registry.counter("order_api_inmemory_queue_rejected_total").increment();
+    }
+
+    public <T> void registerInMemoryQueueDepth(T queue, ToDoubleFunction<T> depth) {
+        Gauge.builder("order_api_inmemory_queue_depth", queue, depth)
+                .description("Orders waiting in the in-memory queue")
+                .register(registry);
+    }
+
+    public <T> void registerInMemoryOutboxCompleted(String outcome, T outbox, ToDoubleFunction<T> count) {
+        FunctionCounter.builder("order_api_inmemory_outbox_completed_total", outbox, count)
+                .description("Outbox events completed by the in-process worker (standalone mode)")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    public Timer processStageTimer(String stage, String result) {
+        return Timer.builder("order_api_process_stage_seconds")
+                .description("Time spent in each stage of ProcessOrderUseCase run by the API's in-process workers")
+                .tag("stage", stage)
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    public void incInFlightLimitRejected() {
+        registry.counter("order_api_inflight_limit_rejected_total").increment();
+    }
+
+    public void recordVirtualThreadPinned(Duration pinned) {
+        Timer.builder("order_api_virtual_thread_pinned_seconds")
+                .description("Virtual threads pinned to their carrier thread (JFR jdk.VirtualThreadPinned), by duration")
+                .register(registry)
+                .record(pinned);
+    }
+
     private String normalizeTransport(String transport) {
         if (transport == null) return "unknown";
         String t = transport.trim().toLowerCase();
@@ -56,4 +163,4 @@ public class ApiMetrics {
             default -> "unknown";
         };
     }
-}
\ No newline at end of file
+}
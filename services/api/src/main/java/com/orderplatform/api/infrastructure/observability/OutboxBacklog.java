@@ -0,0 +1,24 @@
+package com.orderplatform.api.infrastructure.observability;
+
+/**
+ * Outbox backlog as seen by gauges and admission control. Implementations must answer from memory:
+ * admission control asks on every order creation.
+ */
+public interface OutboxBacklog {
+
+    /** PENDING + PROCESSING events. */
+    long backlog();
+
+    /** PROCESSING (locked) events. */
+    long processing();
+
+    /** Age of the oldest event still in the backlog, 0 when empty. */
+    double oldestPendingAgeSeconds();
+
+    /**
+     * While enabled (admission control is shedding on it), oldestPendingAgeSeconds is kept close to exact
+     * instead of only being corrected by the periodic reconcile. No-op where it is always exact.
+     */
+    default void refreshOldestPending(boolean enabled) {
+    }
+}
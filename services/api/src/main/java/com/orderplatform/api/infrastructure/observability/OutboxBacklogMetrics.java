@@ -2,52 +2,28 @@ package com.orderplatform.api.infrastructure.observability;
 
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * Outbox backlog gauges. Scrapes read the cached values of the {@link OutboxBacklog} (O(1), no DB
+ * round trip): kept from outbox notifications and reconciled periodically ({@link OutboxBacklogStats}),
+ * or the in-memory outbox's own counters in standalone mode.
+ */
 @Component
 public class OutboxBacklogMetrics {
 
-    public OutboxBacklogMetrics(MeterRegistry registry, JdbcTemplate jdbcTemplate) {
+    public OutboxBacklogMetrics(MeterRegistry registry, OutboxBacklog stats) {
 
-        Gauge.builder("order_api_outbox_backlog", () -> countBacklog(jdbcTemplate))
+        Gauge.builder("order_api_outbox_backlog", stats, OutboxBacklog::backlog)
                 .description("Number of outbox events pending processing/delivery (PENDING + PROCESSING)")
                 .register(registry);
 
-        Gauge.builder("order_api_outbox_processing", () -> countProcessing(jdbcTemplate))
+        Gauge.builder("order_api_outbox_processing", stats, OutboxBacklog::processing)
                 .description("Number of outbox events currently locked/processing (PROCESSING)")
                 .register(registry);
 
-        Gauge.builder("order_api_outbox_oldest_pending_age_seconds", () -> oldestPendingAgeSeconds(jdbcTemplate))
+        Gauge.builder("order_api_outbox_oldest_pending_age_seconds", stats, OutboxBacklog::oldestPendingAgeSeconds)
                 .description("Age in seconds of the oldest outbox event still pending (PENDING or PROCESSING)")
                 .register(registry);
     }
-
-    private static double countBacklog(JdbcTemplate jdbcTemplate) {
-        Integer n = jdbcTemplate.queryForObject(
-                "select count(*) from order_outbox where status in ('PENDING','PROCESSING')",
-                Integer.class
-        );
-        return n == null ? 0.0 : n.doubleValue();
-    }
-
-    private static double countProcessing(JdbcTemplate jdbcTemplate) {
-        Integer n = jdbcTemplate.queryForObject(
-                "select count(*) from order_outbox where status = 'PROCESSING'",
-                Integer.class
-        );
-        return n == null ? 0.0 : n.doubleValue();
-    }
-
-    private static double oldestPendingAgeSeconds(JdbcTemplate jdbcTemplate) {
-        Double seconds = jdbcTemplate.queryForObject(
-                """
-                select extract(epoch from (now() - min(created_at)))
-                from order_outbox
-                where status in ('PENDING','PROCESSING')
-                """,
-                Double.class
-        );
-        return seconds == null ? 0.0 : seconds;
-    }
-}
\ No newline at end of file
+}
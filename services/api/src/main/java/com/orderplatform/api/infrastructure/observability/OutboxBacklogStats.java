@@ -0,0 +1,238 @@
+package com.orderplatform.api.infrastructure.observability;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+/**
+ * Outbox backlog counters kept from events instead of count(*) per scrape.
+ *
+ * A dedicated connection (outside the Hikari pool) listens on:
+ * - order_outbox: inserted PENDING rows and their oldest created_at (trigger, migration V9)
+ * - order_outbox_stats: PENDING/PROCESSING deltas raised by every status UPDATE (trigger, migration V11)
+ *
+ * Every order.outbox.backlog.reconcile-ms (and after every reconnect) the counters are reset from one
+ * query on the same connection, which bounds any drift from lost or double-counted notifications.
+ * The oldest-pending timestamp is only lowered by inserts and cleared when the backlog drains; when the
+ * head of the queue is consumed it can overstate the age until the next reconcile. While admission
+ * control sheds ({@link #refreshOldestPending}), it is re-read every oldest-refresh-ms instead, so
+ * shedding stops soon after the head is consumed rather than up to reconcile-ms later.
+ *
+ * Only the listener thread writes; gauges read the volatile fields.
+ */
+@Component
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
+public class OutboxBacklogStats implements OutboxBacklog {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxBacklogStats.class);
+
+    static final String ENQUEUE_CHANNEL = "order_outbox";
+    static final String STATS_CHANNEL = "order_outbox_stats";
+
+    private static final long NONE = Long.MAX_VALUE;
+
+    @Value("${order.outbox.backlog.reconcile-ms:60000}")
+    private long reconcileMs;
+
+    @Value("${order.outbox.backlog.oldest-refresh-ms:1000}")
+    private long oldestRefreshMs;
+
+    @Value("${order.outbox.backlog.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private volatile long pending;
+    private volatile long processing;
+    private volatile long oldestPendingMillis = NONE;
+    private volatile boolean refreshOldest;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread listenerThread = new Thread(this::runLoop, "outbox-stats-listen");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Connection conn = connection;
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException ignored) {
+                // shutting down
+            }
+        }
+    }
+
+    @Override
+    public long backlog() {
+        return Math.max(0, pending) + Math.max(0, processing);
+    }
+
+    @Override
+    public long processing() {
+        return Math.max(0, processing);
+    }
+
+    @Override
+    public double oldestPendingAgeSeconds() {
+        long oldest = oldestPendingMillis;
+        if (oldest == NONE) return 0.0;
+        return Math.max(0, System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    @Override
+    public void refreshOldestPending(boolean enabled) {
+        refreshOldest = enabled;
+    }
+
+    private void runLoop() {
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(url, username, password)) {
+                connection = conn;
+                try (Statement st = conn.createStatement()) {
+                    st.execute("LISTEN " + ENQUEUE_CHANNEL);
+                    st.execute("LISTEN " + STATS_CHANNEL);
+                }
+                PGConnection pg = conn.unwrap(PGConnection.class);
+
+                reconcile(conn);
+                long nextReconcileAt = System.currentTimeMillis() + reconcileMs;
+                long nextOldestRefreshAt = 0;
+                log.info("Outbox backlog stats listening. backlog={} processing={}", backlog(), processing());
+
+                while (running) {
+                    long wakeAt = refreshOldest ? Math.min(nextReconcileAt, nextOldestRefreshAt) : nextReconcileAt;
+                    long wait = Math.max(1, wakeAt - System.currentTimeMillis());
+                    // bounded wait so a dead socket is noticed and stop() is honoured
+                    PGNotification[] notifications = pg.getNotifications((int) Math.min(wait, 10_000));
+                    if (notifications != null) {
+                        for (PGNotification n : notifications) {
+                            apply(n);
+                        }
+                    }
+                    if (System.currentTimeMillis() >= nextReconcileAt) {
+                        // apply what is already queued first: those transitions are in the snapshot too
+                        PGNotification[] queued = pg.getNotifications(1);
+                        if (queued != null) {
+                            for (PGNotification n : queued) apply(n);
+                        }
+                        reconcile(conn);
+                        nextReconcileAt = System.currentTimeMillis() + reconcileMs;
+                        nextOldestRefreshAt = System.currentTimeMillis() + oldestRefreshMs;
+                    } else if (refreshOldest && System.currentTimeMillis() >= nextOldestRefreshAt) {
+                        refreshOldest(conn);
+                        nextOldestRefreshAt = System.currentTimeMillis() + oldestRefreshMs;
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) return;
+                log.warn("Outbox backlog stats connection lost. Reconnecting in {} ms. err={}", reconnectDelayMs, ex.toString());
+                sleepQuietly(reconnectDelayMs);
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private void reconcile(Connection conn) throws SQLException {
+        String sql = """
+            SELECT count(*) FILTER (WHERE status = 'PENDING'),
+                   count(*) FILTER (WHERE status = 'PROCESSING'),
+                   min(created_at)
+            FROM order_outbox
+            WHERE status IN ('PENDING','PROCESSING')
+            """;
+        try (Statement st = conn.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            long p = rs.getLong(1);
+            long q = rs.getLong(2);
+            Timestamp oldest = rs.getTimestamp(3);
+
+            if (p != pending || q != processing) {
+                log.debug("Outbox backlog reconciled. pending {} -> {} processing {} -> {}", pending, p, processing, q);
+            }
+            pending = p;
+            processing = q;
+            oldestPendingMillis = oldest == null ? NONE : oldest.getTime();
+        }
+    }
+
+    // partitions are ranged by created_at, so this stops at the first partition still holding live rows
+    private void refreshOldest(Connection conn) throws SQLException {
+        String sql = """
+            SELECT created_at
+            FROM order_outbox
+            WHERE status IN ('PENDING','PROCESSING')
+            ORDER BY created_at
+            LIMIT 1
+            """;
+        try (Statement st = conn.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            oldestPendingMillis = rs.next() ? rs.getTimestamp(1).getTime() : NONE;
+        }
+    }
+
+    private void apply(PGNotification n) {
+        String[] parts = n.getParameter().split(",");
+        try {
+            if (ENQUEUE_CHANNEL.equals(n.getName())) {
+                // "<inserted pending>,<oldest created_at ms>,<nonce>"
+                if (parts.length < 2) return;
+                long inserted = Long.parseLong(parts[0]);
+                long createdAt = Long.parseLong(parts[1]);
+                if (backlog() == 0) {
+                    oldestPendingMillis = createdAt;
+                } else {
+                    oldestPendingMillis = Math.min(oldestPendingMillis, createdAt);
+                }
+                pending += inserted;
+
+            } else if (STATS_CHANNEL.equals(n.getName())) {
+                // "<pending delta>,<processing delta>,<nonce>"
+                if (parts.length < 2) return;
+                pending += Long.parseLong(parts[0]);
+                processing += Long.parseLong(parts[1]);
+                if (backlog() == 0) {
+                    oldestPendingMillis = NONE;
+                }
+            }
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring malformed outbox notification. channel={} payload={}", n.getName(), n.getParameter());
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
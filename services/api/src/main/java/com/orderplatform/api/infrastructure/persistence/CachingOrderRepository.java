@@ -0,0 +1,170 @@
+package com.orderplatform.api.infrastructure.persistence;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import com.orderplatform.core.application.port.OrderRepository;
+import com.orderplatform.core.domain.order.Order;
+import com.orderplatform.core.domain.order.OrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Fallback;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-through cache in front of {@link JpaOrderRepository} for the status polling path (GET /orders/{id}).
+ * Only GetOrderUseCase reads through it; every other OrderRepository consumer gets the plain repository
+ * ({@link Fallback}), so nothing that decides on an order's status ever sees a cached copy.
+ *
+ * Terminal orders (PROCESSED/FAILED) are kept for terminal-ttl-ms, in-flight ones only for active-ttl-ms:
+ * their transitions happen in the worker, so a poll may see the previous status for at most that long.
+ * Writes made by this process (create, reprocess, in-memory worker transitions) evict the entry, whichever
+ * bean they went through. A FAILED order reprocessed through another API instance stays FAILED here until
+ * its entry expires.
+ *
+ * An eviction leaves a tombstone instead of removing the entry, and a miss only caches what it loaded if
+ * the slot still holds what the miss saw, so a load that raced with a write cannot cache the old row.
+ *
+ * Bounded by max-entries: when full, expired entries are swept first and then arbitrary ones, so reads
+ * never take a lock. Hits return a copy because {@link Order} is mutable.
+ */
+@Fallback
+@Repository
+@ConditionalOnProperty(name = "order.query.cache.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
+public class CachingOrderRepository implements OrderRepository {
+
+    private final JpaOrderRepository delegate;
+    private final ApiMetrics apiMetrics;
+
+    private final Map<UUID, CachedOrder> entries = new ConcurrentHashMap<>();
+
+    @Value("${order.query.cache.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${order.query.cache.active-ttl-ms:500}")
+    private long activeTtlMs;
+
+    @Value("${order.query.cache.terminal-ttl-ms:600000}")
+    private long terminalTtlMs;
+
+    public CachingOrderRepository(JpaOrderRepository delegate, ApiMetrics apiMetrics) {
+        this.delegate = delegate;
+        this.apiMetrics = apiMetrics;
+        apiMetrics.registerOrderCacheSize(entries, Map::size);
+        delegate.onWrite(this::invalidate);
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        long now = System.nanoTime();
+        CachedOrder cached = entries.get(id);
+        if (cached != null && cached.order() != null && cached.expiresAtNanos() - now > 0) {
+            apiMetrics.incOrderCacheLookup("hit");
+            return Optional.of(copy(cached.order()));
+        }
+
+        apiMetrics.incOrderCacheLookup("miss");
+        Optional<Order> loaded = delegate.findById(id);
+        // misses are not cached: a missing order is rare and must show up as soon as it exists
+        loaded.ifPresent(order -> put(order, cached, now));
+        return loaded.map(CachingOrderRepository::copy);
+    }
+
+    // bulk reads (the await poller) want current state: straight to the database, cache untouched
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    // writes go straight through; the delegate reports them back to invalidate()
+
+    @Override
+    public void save(Order order) {
+        delegate.save(order);
+    }
+
+    @Override
+    public boolean markProcessing(UUID id, Instant now) {
+        return delegate.markProcessing(id, now);
+    }
+
+    @Override
+    public boolean markProcessed(UUID id, Instant now) {
+        return delegate.markProcessed(id, now);
+    }
+
+    @Override
+    public Optional<Order> markFailure(UUID id, String reason, int maxRetries, Instant now) {
+        return delegate.markFailure(id, reason, maxRetries, now);
+    }
+
+    // again after commit: a read between the write and the commit would otherwise re-cache the old row
+    private void invalidate(UUID id) {
+        tombstone(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    tombstone(id);
+                }
+            });
+        }
+    }
+
+    // a fresh object every time, so a miss that saw the previous one can tell; swept like an expired entry
+    private void tombstone(UUID id) {
+        entries.put(id, new CachedOrder(null, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(activeTtlMs)));
+    }
+
+    // seen: the slot as the miss found it; anything else there now is a newer write or load, which wins
+    private void put(Order order, CachedOrder seen, long now) {
+        long ttlMs = isTerminal(order.getStatus()) ? terminalTtlMs : activeTtlMs;
+        if (ttlMs <= 0) return;
+
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        CachedOrder fresh = new CachedOrder(order, now + TimeUnit.MILLISECONDS.toNanos(ttlMs));
+        if (seen == null) {
+            entries.putIfAbsent(order.getId(), fresh);
+        } else {
+            entries.replace(order.getId(), seen, fresh);
+        }
+    }
+
+    // sweeps expired entries; if that frees nothing, drops arbitrary ones down to 90% of the bound
+    private void evict(long now) {
+        entries.values().removeIf(e -> e.expiresAtNanos() - now <= 0);
+
+        int excess = entries.size() - (int) (maxEntries * 0.9);
+        Iterator<UUID> it = entries.keySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static boolean isTerminal(OrderStatus status) {
+        return status == OrderStatus.PROCESSED || status == OrderStatus.FAILED;
+    }
+
+    private static Order copy(Order o) {
+        return Order.restore(o.getId(), o.getStatus(), o.getCreatedAt(), o.getUpdatedAt(),
+                o.getRetryCount(), o.getFailureReason());
+    }
+
+    // order == null: tombstone left by a write
+    private record CachedOrder(Order order, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.orderplatform.api.infrastructure.persistence;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.port.OrderOutboxWriter;
+import com.orderplatform.core.domain.order.Order;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group commit for order creation (order.create.group-commit.enabled=true).
+ *
+ * Callers hand their order + event to a queue and wait. Flusher threads take the first pending
+ * request, keep collecting for at most window-ms or until max-batch requests, and write the whole
+ * group with one multi-row statement: one transaction and one commit fsync for many POSTs.
+ * Every caller in the group sees the same outcome (all committed, or all failed).
+ *
+ * Latency cost is bounded by window-ms plus the batch write. When the queue is full the caller
+ * writes directly instead of waiting.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "order.create.group-commit.enabled", havingValue = "true")
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
+public class GroupCommitOrderOutboxWriter implements OrderOutboxWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitOrderOutboxWriter.class);
+
+    @Value("${order.create.group-commit.window-ms:2}")
+    private long windowMs;
+
+    @Value("${order.create.group-commit.max-batch:128}")
+    private int maxBatch;
+
+    @Value("${order.create.group-commit.flushers:2}")
+    private int flushers;
+
+    @Value("${order.create.group-commit.max-wait-ms:5000}")
+    private long maxWaitMs;
+
+    private final JdbcOrderOutboxWriter delegate;
+    private final ApiMetrics apiMetrics;
+    private final BlockingQueue<PendingWrite> pending;
+
+    private volatile boolean running;
+    private final List<Thread> flusherThreads = new ArrayList<>();
+
+    public GroupCommitOrderOutboxWriter(JdbcOrderOutboxWriter delegate,
+                                        ApiMetrics apiMetrics,
+                                        @Value("${order.create.group-commit.queue-capacity:10000}") int queueCapacity) {
+        this.delegate = delegate;
+        this.apiMetrics = apiMetrics;
+        this.pending = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < Math.max(1, flushers); i++) {
+            Thread t = new Thread(this::flushLoop, "order-group-commit-" + i);
+            t.setDaemon(true);
+            t.start();
+            flusherThreads.add(t);
+        }
+        log.info("Order group commit enabled. windowMs={} maxBatch={} flushers={}", windowMs, maxBatch, flushers);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Thread t : flusherThreads) {
+            t.interrupt();
+        }
+        // whatever is still queued is written before the datasource goes away
+        List<PendingWrite> rest = new ArrayList<>();
+        pending.drainTo(rest);
+        if (!rest.isEmpty()) {
+            write(rest);
+        }
+    }
+
+    @Override
+    public void insertWithEvent(Order order, OutboxEvent event) {
+        PendingWrite write = new PendingWrite(order, event, new CompletableFuture<>());
+        if (!running || !pending.offer(write)) {
+            // saturated: don't queue unboundedly, pay for our own commit instead
+            delegate.insertWithEvent(order, event);
+            return;
+        }
+
+        try {
+            write.done().get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("Group commit failed", cause);
+        } catch (TimeoutException ex) {
+            // the row may still be committed by the flusher; the caller gets an error either way
+            throw new IllegalStateException("Group commit timed out after " + maxWaitMs + " ms", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for group commit", ex);
+        }
+    }
+
+    // keyed creates need their own replay outcome: written directly, not grouped
+    @Override
+    public Optional<UUID> insertWithEvent(String idempotencyKey, Order order, OutboxEvent event) {
+        return delegate.insertWithEvent(idempotencyKey, order, event);
+    }
+
+    @Override
+    public void insertAllWithEvents(List<Order> orders, List<OutboxEvent> events) {
+        delegate.insertAllWithEvents(orders, events);
+    }
+
+    private void flushLoop() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                PendingWrite first = pending.take();
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+                while (batch.size() < maxBatch) {
+                    // grab whatever is already queued without waiting, then wait out the window
+                    pending.drainTo(batch, maxBatch - batch.size());
+                    if (batch.size() >= maxBatch) break;
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    PendingWrite next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                write(batch);
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) write(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingWrite> batch) {
+        List<Order> orders = new ArrayList<>(batch.size());
+        List<OutboxEvent> events = new ArrayList<>(batch.size());
+        for (PendingWrite w : batch) {
+            orders.add(w.order());
+            events.add(w.event());
+        }
+
+        try {
+            delegate.insertAllWithEvents(orders, events);
+            apiMetrics.recordGroupCommitBatch(batch.size());
+            for (PendingWrite w : batch) {
+                w.done().complete(null);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Group commit of {} orders failed. err={}", batch.size(), ex.toString());
+            for (PendingWrite w : batch) {
+                w.done().completeExceptionally(ex);
+            }
+        }
+    }
+
+    private record PendingWrite(Order order, OutboxEvent event, CompletableFuture<Void> done) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.orderplatform.api.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * LRU of Idempotency-Key -> orderId in front of order_idempotency_keys, so hot client retries are
+ * answered without a database round trip. Only committed bindings are added, and a binding never
+ * changes until IdempotencyKeyPurger expires it, so an entry is only trusted for order.idempotency.retention
+ * after it was cached; a miss just falls through to the table.
+ */
+@Component
+public class IdempotencyKeyCache {
+
+    private final Map<String, Binding> entries;
+    private final long retentionNanos;
+
+    public IdempotencyKeyCache(@Value("${order.idempotency.cache.max-entries:100000}") int maxEntries,
+                               @Value("${order.idempotency.retention:24h}") Duration retention) {
+        this.retentionNanos = retention.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Binding> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized Optional<UUID> get(String key) {
+        Binding binding = entries.get(key);
+        if (binding == null) return Optional.empty();
+        if (System.nanoTime() - binding.cachedAtNanos() >= retentionNanos) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(binding.orderId());
+    }
+
+    public synchronized void put(String key, UUID orderId) {
+        entries.put(key, new Binding(orderId, System.nanoTime()));
+    }
+
+    private record Binding(UUID orderId, long cachedAtNanos) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.orderplatform.api.infrastructure.persistence;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Expires Idempotency-Keys older than order.idempotency.retention; a retry arriving later than that
+ * creates a new order.
+ *
+ * Every purge-interval it deletes at most batch-size keys per statement (oldest first, through
+ * idx_order_idempotency_keys_created) and at most max-batches statements, each its own short
+ * transaction, so a large backlog of expired keys is worked off over several runs instead of one
+ * long delete. Concurrent runs on several API instances only split the work.
+ */
+@Component
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
+public class IdempotencyKeyPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyPurger.class);
+
+    @Value("${order.idempotency.retention:24h}")
+    private Duration retention;
+
+    @Value("${order.idempotency.purge.interval:5m}")
+    private Duration interval;
+
+    @Value("${order.idempotency.purge.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${order.idempotency.purge.max-batches:20}")
+    private int maxBatches;
+
+    private final JdbcTemplate jdbc;
+    private final ApiMetrics apiMetrics;
+
+    private volatile Thread purgeThread;
+
+    public IdempotencyKeyPurger(JdbcTemplate jdbc, ApiMetrics apiMetrics) {
+        this.jdbc = jdbc;
+        this.apiMetrics = apiMetrics;
+    }
+
+    @PostConstruct
+    public void start() {
+        Thread t = new Thread(this::purgeLoop, "idempotency-key-purge");
+        t.setDaemon(true);
+        t.start();
+        purgeThread = t;
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread t = purgeThread;
+        if (t != null) t.interrupt();
+    }
+
+    private void purgeLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(Math.max(1, interval.toMillis()));
+                purge(Instant.now().minus(retention));
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception ex) {
+                log.warn("Idempotency key purge failed. err={}", ex.toString());
+            }
+        }
+    }
+
+    /** Deletes keys created before cutoff, bounded by max-batches statements. Returns the rows deleted. */
+    long purge(Instant cutoff) {
+        long total = 0;
+        for (int i = 0; i < Math.max(1, maxBatches); i++) {
+            int deleted = jdbc.update("""
+                DELETE FROM order_idempotency_keys
+                WHERE ctid IN (
+                    SELECT ctid
+                    FROM order_idempotency_keys
+                    WHERE created_at < ?
+                    ORDER BY created_at
+                    LIMIT ?
+                )
+                """, Timestamp.from(cutoff), batchSize);
+            total += deleted;
+            if (deleted < batchSize) break;
+        }
+        if (total > 0) {
+            apiMetrics.incIdempotencyKeysPurged(total);
+            log.info("Purged {} idempotency keys created before {}", total, cutoff);
+        }
+        return total;
+    }
+}
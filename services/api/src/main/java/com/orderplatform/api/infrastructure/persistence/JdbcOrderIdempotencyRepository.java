@@ -0,0 +1,43 @@
+package com.orderplatform.api.infrastructure.persistence;
+
+import com.orderplatform.core.application.port.OrderIdempotencyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcOrderIdempotencyRepository implements OrderIdempotencyRepository {
+
+    private final JdbcTemplate jdbc;
+
+    public JdbcOrderIdempotencyRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Optional<UUID> claim(String key, UUID orderId, Instant now) {
+        // a concurrent claim of the same key blocks here until the other transaction ends
+        int inserted = jdbc.update("""
+            INSERT INTO order_idempotency_keys (idempotency_key, order_id, created_at)
+            VALUES (?, ?, ?)
+            ON CONFLICT (idempotency_key) DO NOTHING
+            """, key, orderId, Timestamp.from(now));
+        if (inserted == 1) {
+            return Optional.empty();
+        }
+        return findOwner(key);
+    }
+
+    private Optional<UUID> findOwner(String key) {
+        return jdbc.queryForList(
+                "SELECT order_id FROM order_idempotency_keys WHERE idempotency_key = ?",
+                UUID.class, key
+        ).stream().findFirst();
+    }
+}
@@ -0,0 +1,196 @@
+package com.orderplatform.api.infrastructure.persistence;
+
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.port.OrderOutboxWriter;
+import com.orderplatform.core.domain.order.Order;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Order + outbox row in a single statement: one round trip, atomic on its own (no explicit transaction
+ * needed), and no JPA merge/select before the insert.
+ */
+@Repository
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcOrderOutboxWriter implements OrderOutboxWriter {
+
+    private final JdbcTemplate jdbc;
+
+    public JdbcOrderOutboxWriter(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void insertWithEvent(Order order, OutboxEvent event) {
+        String sql = """
+            WITH new_order AS (
+                INSERT INTO orders (id, status, created_at, updated_at, retry_count, failure_reason)
+                VALUES (?, ?, ?, ?, ?, ?)
+                RETURNING id
+            )
+            INSERT INTO order_outbox
+              (id, aggregate_id, event_type, payload, status, attempts, next_attempt_at, created_at)
+            SELECT ?, new_order.id, ?, ?, ?, ?, ?, ?
+            FROM new_order
+            """;
+
+        jdbc.update(
+                sql,
+                order.getId(),
+                order.getStatus().name(),
+                utc(order.getCreatedAt()),
+                utc(order.getUpdatedAt()),
+                order.getRetryCount(),
+                order.getFailureReason(),
+                event.id(),
+                event.eventType(),
+                event.payload(),
+                event.status().name(),
+                event.attempts(),
+                Timestamp.from(event.nextAttemptAt()),
+                Timestamp.from(event.createdAt())
+        );
+    }
+
+    /**
+     * Keyed variant: the key row gates the order and outbox inserts inside the same statement, so a retried
+     * request inserts nothing. A concurrent duplicate waits on the key's unique index for the first one.
+     */
+    @Override
+    public Optional<UUID> insertWithEvent(String idempotencyKey, Order order, OutboxEvent event) {
+        String sql = """
+            WITH claimed AS (
+                INSERT INTO order_idempotency_keys (idempotency_key, order_id, created_at)
+                VALUES (?, ?, ?)
+                ON CONFLICT (idempotency_key) DO NOTHING
+                RETURNING order_id
+            ),
+            new_order AS (
+                INSERT INTO orders (id, status, created_at, updated_at, retry_count, failure_reason)
+                SELECT claimed.order_id, ?, ?, ?, ?, ?
+                FROM claimed
+                RETURNING id
+            )
+            INSERT INTO order_outbox
+              (id, aggregate_id, event_type, payload, status, attempts, next_attempt_at, created_at)
+            SELECT ?, new_order.id, ?, ?, ?, ?, ?, ?
+            FROM new_order
+            """;
+
+        int inserted = jdbc.update(
+                sql,
+                idempotencyKey,
+                order.getId(),
+                Timestamp.from(order.getCreatedAt()),
+                order.getStatus().name(),
+                utc(order.getCreatedAt()),
+                utc(order.getUpdatedAt()),
+                order.getRetryCount(),
+                order.getFailureReason(),
+                event.id(),
+                event.eventType(),
+                event.payload(),
+                event.status().name(),
+                event.attempts(),
+                Timestamp.from(event.nextAttemptAt()),
+                Timestamp.from(event.createdAt())
+        );
+        if (inserted == 1) {
+            return Optional.empty();
+        }
+        return jdbc.queryForList(
+                "SELECT order_id FROM order_idempotency_keys WHERE idempotency_key = ?",
+                UUID.class, idempotencyKey
+        ).stream().findFirst();
+    }
+
+    /**
+     * Multi-row variant: each table gets one INSERT ... SELECT FROM unnest(arrays), still a single statement,
+     * so the statement size stays constant however many rows are written.
+     */
+    @Override
+    public void insertAllWithEvents(List<Order> orders, List<OutboxEvent> events) {
+        if (orders.isEmpty() && events.isEmpty()) return;
+
+        String sql = """
+            WITH new_orders AS (
+                INSERT INTO orders (id, status, created_at, updated_at, retry_count, failure_reason)
+                SELECT * FROM unnest(?::uuid[], ?::varchar[], ?::timestamptz[], ?::timestamptz[], ?::int[], ?::text[])
+            )
+            INSERT INTO order_outbox
+              (id, aggregate_id, event_type, payload, status, attempts, next_attempt_at, created_at)
+            SELECT * FROM unnest(?::uuid[], ?::uuid[], ?::varchar[], ?::text[], ?::varchar[], ?::int[], ?::timestamptz[], ?::timestamptz[])
+            """;
+
+        int n = orders.size();
+        Object[] orderIds = new Object[n];
+        Object[] statuses = new Object[n];
+        Object[] createdAts = new Object[n];
+        Object[] updatedAts = new Object[n];
+        Object[] retryCounts = new Object[n];
+        Object[] failureReasons = new Object[n];
+        for (int i = 0; i < n; i++) {
+            Order o = orders.get(i);
+            orderIds[i] = o.getId();
+            statuses[i] = o.getStatus().name();
+            createdAts[i] = utc(o.getCreatedAt());
+            updatedAts[i] = utc(o.getUpdatedAt());
+            retryCounts[i] = o.getRetryCount();
+            failureReasons[i] = o.getFailureReason();
+        }
+
+        int m = events.size();
+        Object[] eventIds = new Object[m];
+        Object[] aggregateIds = new Object[m];
+        Object[] eventTypes = new Object[m];
+        Object[] payloads = new Object[m];
+        Object[] eventStatuses = new Object[m];
+        Object[] attempts = new Object[m];
+        Object[] nextAttempts = new Object[m];
+        Object[] eventCreatedAts = new Object[m];
+        for (int i = 0; i < m; i++) {
+            OutboxEvent e = events.get(i);
+            eventIds[i] = e.id();
+            aggregateIds[i] = e.aggregateId();
+            eventTypes[i] = e.eventType();
+            payloads[i] = e.payload();
+            eventStatuses[i] = e.status().name();
+            attempts[i] = e.attempts();
+            nextAttempts[i] = Timestamp.from(e.nextAttemptAt());
+            eventCreatedAts[i] = Timestamp.from(e.createdAt());
+        }
+
+        jdbc.update(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("uuid", orderIds));
+            ps.setArray(2, con.createArrayOf("varchar", statuses));
+            ps.setArray(3, con.createArrayOf("timestamptz", createdAts));
+            ps.setArray(4, con.createArrayOf("timestamptz", updatedAts));
+            ps.setArray(5, con.createArrayOf("int4", retryCounts));
+            ps.setArray(6, con.createArrayOf("text", failureReasons));
+            ps.setArray(7, con.createArrayOf("uuid", eventIds));
+            ps.setArray(8, con.createArrayOf("uuid", aggregateIds));
+            ps.setArray(9, con.createArrayOf("varchar", eventTypes));
+            ps.setArray(10, con.createArrayOf("text", payloads));
+            ps.setArray(11, con.createArrayOf("varchar", eventStatuses));
+            ps.setArray(12, con.createArrayOf("int4", attempts));
+            ps.setArray(13, con.createArrayOf("timestamptz", nextAttempts));
+            ps.setArray(14, con.createArrayOf("timestamptz", eventCreatedAts));
+            return ps;
+        });
+    }
+
+    // orders uses TIMESTAMP (no time zone): bind like Hibernate does for Instant, normalized to UTC
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -2,6 +2,7 @@ package com.orderplatform.api.infrastructure.persistence;
 
 import com.orderplatform.core.application.model.OrderDlqEntry;
 import com.orderplatform.core.application.port.OrderDlqRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +12,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
 public class JpaOrderDlqRepository implements OrderDlqRepository {
 
     private final SpringDataOrderDlqRepository springRepo;
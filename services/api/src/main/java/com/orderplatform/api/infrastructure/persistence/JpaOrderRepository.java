@@ -1,20 +1,32 @@
 package com.orderplatform.api.infrastructure.persistence;
 
+import com.orderplatform.common.persistence.JdbcOrderStatements;
 import com.orderplatform.core.application.port.OrderRepository;
 import com.orderplatform.core.domain.order.Order;
 import com.orderplatform.core.domain.order.OrderStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Repository
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
 public class JpaOrderRepository implements OrderRepository {
 
     private final SpringDataOrderRepository springRepo;
+    private final JdbcOrderStatements statements;
 
-    public JpaOrderRepository(SpringDataOrderRepository springRepo) {
+    private volatile Consumer<UUID> writeListener = id -> { };
+
+    public JpaOrderRepository(SpringDataOrderRepository springRepo, JdbcTemplate jdbc) {
         this.springRepo = springRepo;
+        this.statements = new JdbcOrderStatements(jdbc);
     }
 
     @Override
@@ -27,7 +39,11 @@ public class JpaOrderRepository implements OrderRepository {
                 order.getRetryCount(),
                 order.getFailureReason()
         );
-        springRepo.save(entity);
+        try {
+            springRepo.save(entity);
+        } finally {
+            writeListener.accept(order.getId());
+        }
     }
 
     @Override
@@ -43,4 +59,44 @@ public class JpaOrderRepository implements OrderRepository {
                 )
         );
     }
+
+    // uncached on purpose: the await poller needs the current status of every order it watches
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        return statements.findAllById(ids);
+    }
+
+    // conditional UPDATEs on the JDBC connection of the surrounding transaction, see JdbcOrderStatements
+
+    @Override
+    public boolean markProcessing(UUID id, Instant now) {
+        try {
+            return statements.markProcessing(id, now);
+        } finally {
+            writeListener.accept(id);
+        }
+    }
+
+    @Override
+    public boolean markProcessed(UUID id, Instant now) {
+        try {
+            return statements.markProcessed(id, now);
+        } finally {
+            writeListener.accept(id);
+        }
+    }
+
+    @Override
+    public Optional<Order> markFailure(UUID id, String reason, int maxRetries, Instant now) {
+        try {
+            return statements.markFailure(id, reason, maxRetries, now);
+        } finally {
+            writeListener.accept(id);
+        }
+    }
+
+    // the query cache evicts on every write made by this process, whoever made it
+    void onWrite(Consumer<UUID> listener) {
+        this.writeListener = listener;
+    }
 }
@@ -0,0 +1,139 @@
+package com.orderplatform.api.infrastructure.persistence;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import com.orderplatform.core.application.port.OrderRepository;
+import com.orderplatform.core.domain.order.Order;
+import com.orderplatform.core.domain.order.OrderStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Completion waits for GET /orders/{id}/await.
+ *
+ * Waiters are only futures: no thread is parked per request. One thread checks the status of every
+ * watched order with a single query per poll-ms (chunked by id), whatever the number of waiters, and
+ * completes the futures whose order reached its target or a terminal state.
+ */
+@Component
+public class OrderStatusWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatusWatcher.class);
+
+    private static final int IDS_PER_QUERY = 1000;
+
+    @Value("${order.await.poll-ms:200}")
+    private long pollMs;
+
+    @Value("${order.await.max-waiters:10000}")
+    private int maxWaiters;
+
+    private final OrderRepository orderRepository;
+
+    private final Map<UUID, List<Watch>> watches = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private volatile boolean running;
+
+    public OrderStatusWatcher(OrderRepository orderRepository, ApiMetrics apiMetrics) {
+        this.orderRepository = orderRepository;
+        apiMetrics.registerAwaitWaiters(waiting, AtomicInteger::get);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread t = new Thread(this::pollLoop, "order-await-poll");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    public static boolean reached(OrderStatus status, OrderStatus target) {
+        return status == target || status == OrderStatus.PROCESSED || status == OrderStatus.FAILED;
+    }
+
+    /**
+     * Future completed with the order once it reaches target (or a terminal state). Cancelling it drops
+     * the wait. Empty when max-waiters are already waiting.
+     */
+    public Optional<CompletableFuture<Order>> await(UUID orderId, OrderStatus target) {
+        if (waiting.incrementAndGet() > maxWaiters) {
+            waiting.decrementAndGet();
+            return Optional.empty();
+        }
+
+        CompletableFuture<Order> future = new CompletableFuture<>();
+        watches.compute(orderId, (id, list) -> {
+            List<Watch> next = list == null ? new ArrayList<>(1) : list;
+            next.add(new Watch(target, future));
+            return next;
+        });
+        return Optional.of(future);
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                Thread.sleep(pollMs);
+                if (!watches.isEmpty()) {
+                    poll();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                log.warn("Order await poll failed. waiters={} err={}", waiting.get(), ex.toString());
+            }
+        }
+    }
+
+    private void poll() {
+        List<UUID> ids = new ArrayList<>(watches.keySet());
+        for (int from = 0; from < ids.size(); from += IDS_PER_QUERY) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + IDS_PER_QUERY));
+
+            Map<UUID, Order> current = new HashMap<>();
+            for (Order o : orderRepository.findAllById(chunk)) {
+                current.put(o.getId(), o);
+            }
+
+            for (UUID id : chunk) {
+                Order order = current.get(id);
+                watches.computeIfPresent(id, (k, list) -> {
+                    int before = list.size();
+                    list.removeIf(w -> {
+                        if (w.future().isDone()) return true; // timed out / cancelled by the request
+                        if (order != null && reached(order.getStatus(), w.target())) {
+                            w.future().complete(order);
+                            return true;
+                        }
+                        return false;
+                    });
+                    waiting.addAndGet(list.size() - before);
+                    return list.isEmpty() ? null : list;
+                });
+            }
+        }
+    }
+
+    private record Watch(OrderStatus target, CompletableFuture<Order> future) {
+    }
+}
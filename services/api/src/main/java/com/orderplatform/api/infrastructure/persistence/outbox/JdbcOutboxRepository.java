@@ -1,12 +1,15 @@
 package com.orderplatform.api.infrastructure.persistence.outbox;
 
 import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.model.OutboxReschedule;
 import com.orderplatform.core.application.port.OutboxRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,6 +18,7 @@ import org.slf4j.LoggerFactory;
 
 
 @Repository
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "jdbc", matchIfMissing = true)
 public class JdbcOutboxRepository implements OutboxRepository {
 
     private final JdbcTemplate jdbc;
@@ -78,4 +82,24 @@ public class JdbcOutboxRepository implements OutboxRepository {
     public int releaseStaleLocks(Instant olderThan) {
         throw new UnsupportedOperationException("Outbox polling is handled by worker");
     }
+
+    @Override
+    public void markProcessed(Collection<UUID> eventIds, Instant processedAt) {
+        throw new UnsupportedOperationException("Outbox polling is handled by worker");
+    }
+
+    @Override
+    public void reschedule(Collection<OutboxReschedule> reschedules) {
+        throw new UnsupportedOperationException("Outbox polling is handled by worker");
+    }
+
+    @Override
+    public void markFailed(Collection<UUID> eventIds, Instant failedAt, String lastError) {
+        throw new UnsupportedOperationException("Outbox polling is handled by worker");
+    }
+
+    @Override
+    public List<OutboxEvent> claimReady(int limit, Instant now, String workerId, Collection<Integer> partitions) {
+        throw new UnsupportedOperationException("Outbox polling is handled by worker");
+    }
 }
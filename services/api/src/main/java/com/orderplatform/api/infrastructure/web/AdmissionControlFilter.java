@@ -0,0 +1,103 @@
+package com.orderplatform.api.infrastructure.web;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import com.orderplatform.api.infrastructure.observability.OutboxBacklog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds order creation (POST /orders, POST /orders/batch) with 429 + Retry-After while the outbox is
+ * too far behind, so a slow worker fleet means rejected requests instead of an unbounded backlog.
+ *
+ * Driven by the same in-memory signals as the backlog gauges ({@link OutboxBacklog}), so the check
+ * costs two volatile reads. Hysteresis: shedding starts when the backlog or the oldest pending age
+ * crosses its shed threshold and stops only once both are back under the (lower) resume thresholds.
+ * While shedding, the backlog is asked to keep the oldest pending age fresh, since that age is what
+ * usually holds the gate shut after the worker has caught up. Reads are never shed.
+ */
+@Component
+@ConditionalOnProperty(name = "order.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    @Value("${order.admission.shed-backlog:50000}")
+    private long shedBacklog;
+
+    @Value("${order.admission.resume-backlog:25000}")
+    private long resumeBacklog;
+
+    @Value("${order.admission.shed-oldest-age-seconds:300}")
+    private double shedOldestAgeSeconds;
+
+    @Value("${order.admission.resume-oldest-age-seconds:60}")
+    private double resumeOldestAgeSeconds;
+
+    @Value("${order.admission.retry-after-seconds:5}")
+    private int retryAfterSeconds;
+
+    private final OutboxBacklog backlog;
+    private final ApiMetrics apiMetrics;
+
+    private volatile boolean shedding;
+
+    public AdmissionControlFilter(OutboxBacklog backlog, ApiMetrics apiMetrics) {
+        this.backlog = backlog;
+        this.apiMetrics = apiMetrics;
+        apiMetrics.registerAdmissionShedding(this, f -> f.shedding ? 1 : 0);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) return true;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.equals("/orders") && !path.equals("/orders/batch");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (shouldShed()) {
+            String endpoint = request.getRequestURI().endsWith("/batch") ? "batch" : "create";
+            apiMetrics.incAdmissionShed(endpoint);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Order intake is throttled while the backlog drains");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // racing requests may both flip the flag; that only duplicates the log line
+    private boolean shouldShed() {
+        long pending = backlog.backlog();
+        double oldestAge = backlog.oldestPendingAgeSeconds();
+
+        if (!shedding) {
+            if (pending >= shedBacklog || oldestAge >= shedOldestAgeSeconds) {
+                shedding = true;
+                backlog.refreshOldestPending(true);
+                log.warn("Admission control: shedding order creation. backlog={} oldestPendingAgeSeconds={}",
+                        pending, oldestAge);
+            }
+        } else if (pending <= resumeBacklog && oldestAge <= resumeOldestAgeSeconds) {
+            shedding = false;
+            backlog.refreshOldestPending(false);
+            log.info("Admission control: accepting orders again. backlog={} oldestPendingAgeSeconds={}",
+                    pending, oldestAge);
+        }
+        return shedding;
+    }
+}
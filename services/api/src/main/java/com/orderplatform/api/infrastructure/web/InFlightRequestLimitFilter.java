@@ -0,0 +1,81 @@
+package com.orderplatform.api.infrastructure.web;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Virtual-thread safeguard. With spring.threads.virtual.enabled Tomcat no longer caps concurrency at its
+ * thread pool: every accepted request gets a thread, and under a slow database thousands of them would
+ * queue inside Hikari until connection-timeout fails them all at once.
+ *
+ * This filter restores a bound proportional to the pool: at most pool size * requests-per-connection
+ * requests run at a time; the rest wait up to queue-timeout-ms for a permit and then get 503 + Retry-After.
+ * Actuator endpoints are never limited, and parked /await requests give their permit back when they park.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class InFlightRequestLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(InFlightRequestLimitFilter.class);
+
+    private final Semaphore permits;
+    private final long queueTimeoutMs;
+    private final ApiMetrics apiMetrics;
+
+    public InFlightRequestLimitFilter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                      @Value("${order.virtual-threads.requests-per-connection:4}") int requestsPerConnection,
+                                      @Value("${order.virtual-threads.queue-timeout-ms:2000}") long queueTimeoutMs,
+                                      ApiMetrics apiMetrics) {
+        int limit = Math.max(1, poolSize * Math.max(1, requestsPerConnection));
+        this.permits = new Semaphore(limit);
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.apiMetrics = apiMetrics;
+        log.info("In-flight request limit for virtual threads: {} (pool {} x {})", limit, poolSize, requestsPerConnection);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            apiMetrics.incInFlightLimitRejected();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many requests in flight");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -1,11 +1,25 @@
 package com.orderplatform.api.infrastructure.web;
 
 import com.orderplatform.api.application.usecase.CreateOrderUseCaseTx;
+import com.orderplatform.core.application.model.CreatedOrder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -13,17 +27,152 @@ import java.util.UUID;
 @RequestMapping("/orders")
 public class OrderController {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderController.class);
+
+    static final String NDJSON = "application/x-ndjson";
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    // order_idempotency_keys.idempotency_key is VARCHAR(255)
+    static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    @Value("${order.create.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${order.create.batch.max-orders:100000}")
+    private int maxOrders;
+
     private final CreateOrderUseCaseTx createOrderUseCase;
 
     public OrderController(CreateOrderUseCaseTx createOrderUseCase) {
         this.createOrderUseCase = createOrderUseCase;
     }
 
+    /**
+     * With an Idempotency-Key header a retried request gets the original orderId and the same 202,
+     * marked with Idempotent-Replayed: true, and no second order or event is created.
+     */
     @PostMapping
-    public ResponseEntity<Map<String, UUID>> createOrder() {
-        UUID orderId = createOrderUseCase.execute();
+    public ResponseEntity<Map<String, UUID>> createOrder(
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            UUID orderId = createOrderUseCase.execute();
+
+            // 202 Accepted: async
+            return ResponseEntity.accepted().body(Map.of("orderId", orderId));
+        }
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+        CreatedOrder created = createOrderUseCase.execute(idempotencyKey);
+        return ResponseEntity.accepted()
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(created.replayed()))
+                .body(Map.of("orderId", created.orderId()));
+    }
+
+    /**
+     * Bulk intake. Either ?count=N or an NDJSON body with one line per order (orders carry no fields yet,
+     * so only non-blank lines are counted). Orders are written chunk-size at a time, each chunk in one
+     * commit, and the ids are streamed back as NDJSON as soon as their chunk is durable: memory stays
+     * bounded by one chunk whatever the request size.
+     *
+     * The response is committed with the first chunk, so a later failure cannot change the status:
+     * it is reported as a final {"error":...,"created":n} line. Orders in earlier lines are persisted.
+     */
+    @PostMapping("/batch")
+    public void createOrders(@RequestParam(required = false) Integer count,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        if (count != null && (count <= 0 || count > maxOrders)) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "count must be between 1 and " + maxOrders);
+            return;
+        }
+
+        response.setStatus(HttpStatus.ACCEPTED.value());
+        response.setContentType(NDJSON);
+        OutputStream out = response.getOutputStream();
+
+        OrderLineCounter lines = count == null ? new OrderLineCounter(request.getInputStream()) : null;
+        int remaining = count != null ? count : maxOrders;
+        int created = 0;
+
+        try {
+            while (remaining > 0) {
+                int n = lines == null ? Math.min(chunkSize, remaining) : lines.next(Math.min(chunkSize, remaining));
+                if (n == 0) break;
+
+                List<UUID> ids = createOrderUseCase.executeBatch(n);
+                StringBuilder chunk = new StringBuilder(ids.size() * 50);
+                for (UUID id : ids) {
+                    chunk.append("{\"orderId\":\"").append(id).append("\"}\n");
+                }
+                out.write(chunk.toString().getBytes(StandardCharsets.UTF_8));
+                out.flush();
+
+                created += n;
+                remaining -= n;
+            }
+
+            if (lines != null && remaining == 0 && lines.next(1) > 0) {
+                writeError(out, "batch exceeds " + maxOrders + " orders", created);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Bulk order intake failed after {} orders. err={}", created, ex.toString());
+            writeError(out, "order creation failed", created);
+        }
+        log.info("Bulk order intake finished. created={}", created);
+    }
+
+    private void writeError(OutputStream out, String message, int created) throws IOException {
+        out.write("{\"error\":\"%s\",\"created\":%d}\n".formatted(message, created).getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * Counts non-blank lines without keeping them: a single huge line costs no memory either.
+     */
+    static final class OrderLineCounter {
+
+        private final InputStream in;
+        private final byte[] buf = new byte[8192];
+        private int pos;
+        private int len;
+        private boolean lineHasContent;
+        private boolean eof;
+
+        OrderLineCounter(InputStream in) {
+            this.in = in;
+        }
 
-        // 202 Accepted: async
-        return ResponseEntity.accepted().body(Map.of("orderId", orderId));
+        /** Reads up to max more order lines and returns how many were found (0 at end of body). */
+        int next(int max) throws IOException {
+            int found = 0;
+            while (found < max) {
+                if (pos == len) {
+                    if (eof) break;
+                    len = in.read(buf);
+                    pos = 0;
+                    if (len <= 0) {
+                        len = 0;
+                        eof = true;
+                        // last line without trailing newline
+                        if (lineHasContent) {
+                            lineHasContent = false;
+                            found++;
+                        }
+                        continue;
+                    }
+                }
+                byte b = buf[pos++];
+                if (b == '\n') {
+                    if (lineHasContent) found++;
+                    lineHasContent = false;
+                } else if (b != ' ' && b != '\t' && b != '\r') {
+                    lineHasContent = true;
+                }
+            }
+            return found;
+        }
     }
 }
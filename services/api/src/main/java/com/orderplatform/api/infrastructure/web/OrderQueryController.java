@@ -1,31 +1,119 @@
 package com.orderplatform.api.infrastructure.web;
 
+import com.orderplatform.api.infrastructure.persistence.OrderStatusWatcher;
 import com.orderplatform.core.application.usecase.GetOrderUseCase;
 import com.orderplatform.core.domain.order.Order;
+import com.orderplatform.core.domain.order.OrderStatus;
 import com.orderplatform.api.infrastructure.web.dto.OrderResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/orders")
 public class OrderQueryController {
 
+    @Value("${order.await.max-timeout-ms:60000}")
+    private long maxAwaitMs;
+
     private final GetOrderUseCase getOrderUseCase;
+    private final OrderStatusWatcher statusWatcher;
 
-    public OrderQueryController(GetOrderUseCase getOrderUseCase) {
+    public OrderQueryController(GetOrderUseCase getOrderUseCase, OrderStatusWatcher statusWatcher) {
         this.getOrderUseCase = getOrderUseCase;
+        this.statusWatcher = statusWatcher;
     }
 
+    /**
+     * ETag and Last-Modified come from updatedAt, which every transition changes. Spring answers a matching
+     * If-None-Match / If-Modified-Since with 304 and no body; no-cache makes clients revalidate every poll.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponse> getById(@PathVariable UUID id) {
         return getOrderUseCase.execute(id)
-                .map(this::toResponse)
-                .map(ResponseEntity::ok)
+                .map(order -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache())
+                        .eTag(eTag(order))
+                        .lastModified(order.getUpdatedAt())
+                        .body(toResponse(order)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    /**
+     * Long poll: answers 200 as soon as the order reaches status (or PROCESSED/FAILED), or 202 with the
+     * current state when timeout (e.g. 30s, 500ms; capped by order.await.max-timeout-ms) runs out first.
+     * A timeout that does not parse or is not positive is a 400.
+     * The request is parked as a DeferredResult, so waiting holds no servlet thread.
+     */
+    @GetMapping("/{id}/await")
+    public DeferredResult<ResponseEntity<OrderResponse>> await(@PathVariable UUID id,
+                                                               @RequestParam(defaultValue = "PROCESSED") OrderStatus status,
+                                                               @RequestParam(defaultValue = "30s") String timeout) {
+        Duration requested;
+        try {
+            requested = DurationStyle.detectAndParse(timeout);
+        } catch (IllegalArgumentException ex) {
+            requested = null;
+        }
+        if (requested == null || requested.isNegative() || requested.toMillis() == 0) {
+            DeferredResult<ResponseEntity<OrderResponse>> rejected = new DeferredResult<>();
+            rejected.setResult(ResponseEntity.badRequest().build());
+            return rejected;
+        }
+        long timeoutMs = Math.min(maxAwaitMs, requested.toMillis());
+        DeferredResult<ResponseEntity<OrderResponse>> result = new DeferredResult<>(Math.max(1, timeoutMs));
+
+        Optional<Order> current = getOrderUseCase.execute(id);
+        if (current.isEmpty()) {
+            result.setResult(ResponseEntity.notFound().build());
+            return result;
+        }
+        if (OrderStatusWatcher.reached(current.get().getStatus(), status)) {
+            result.setResult(awaitResponse(current.get(), status));
+            return result;
+        }
+
+        Optional<CompletableFuture<Order>> completion = statusWatcher.await(id, status);
+        if (completion.isEmpty()) {
+            result.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build());
+            return result;
+        }
+
+        CompletableFuture<Order> future = completion.get();
+        future.thenAccept(order -> result.setResult(awaitResponse(order, status)));
+        result.onTimeout(() -> result.setResult(getOrderUseCase.execute(id)
+                .map(order -> awaitResponse(order, status))
+                .orElseGet(() -> ResponseEntity.notFound().build())));
+        // releases the watch on timeout, client disconnect or completion
+        result.onCompletion(() -> future.cancel(false));
+        return result;
+    }
+
+    private ResponseEntity<OrderResponse> awaitResponse(Order order, OrderStatus target) {
+        HttpStatus code = OrderStatusWatcher.reached(order.getStatus(), target) ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(code)
+                .cacheControl(CacheControl.noStore())
+                .body(toResponse(order));
+    }
+
+    private String eTag(Order order) {
+        Instant updatedAt = order.getUpdatedAt();
+        return "\"" + updatedAt.getEpochSecond() + "." + updatedAt.getNano() + "\"";
+    }
+
     private OrderResponse toResponse(Order order) {
         return new OrderResponse(
                 order.getId(),
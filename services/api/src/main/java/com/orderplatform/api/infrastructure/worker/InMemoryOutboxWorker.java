@@ -0,0 +1,158 @@
+package com.orderplatform.api.infrastructure.worker;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.model.OutboxReschedule;
+import com.orderplatform.core.application.retry.RetryPolicy;
+import com.orderplatform.core.application.usecase.ProcessOrderUseCase;
+import com.orderplatform.core.infrastructure.inmemory.InMemoryOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The worker's outbox loop, in the API process, for standalone mode (in-memory persistence + outbox events).
+ *
+ * Same cycle as the worker's OutboxPollingJob: release stale locks, claim a batch, run every event through
+ * ProcessOrderUseCase, then apply the outbox transitions in bulk (PROCESSED, rescheduled with the retry
+ * policy, FAILED). Idle threads sleep in the outbox until an event arrives or a retry becomes due.
+ * An event whose processing throws stays locked until the stale-lock release hands it back.
+ */
+@Component
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "inmemory")
+@ConditionalOnProperty(name = "order.events.mode", havingValue = "outbox")
+public class InMemoryOutboxWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryOutboxWorker.class);
+
+    @Value("${order.worker.maxRetries:3}")
+    private int maxRetries;
+
+    // 0 = one per available core
+    @Value("${order.worker.consumers:0}")
+    private int consumers;
+
+    @Value("${order.inmemory.outbox.batch-size:10}")
+    private int batchSize;
+
+    @Value("${order.inmemory.outbox.lock-timeout-seconds:30}")
+    private long lockTimeoutSeconds;
+
+    @Value("${order.inmemory.outbox.idle-wait-ms:1000}")
+    private long idleWaitMs;
+
+    private final InMemoryOutboxRepository outbox;
+    private final ProcessOrderUseCase processOrderUseCase;
+    private final RetryPolicy retryPolicy;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    public InMemoryOutboxWorker(InMemoryOutboxRepository outbox,
+                                ProcessOrderUseCase processOrderUseCase,
+                                RetryPolicy retryPolicy,
+                                ApiMetrics apiMetrics) {
+        this.outbox = outbox;
+        this.processOrderUseCase = processOrderUseCase;
+        this.retryPolicy = retryPolicy;
+        apiMetrics.registerInMemoryOutboxCompleted("processed", outbox, InMemoryOutboxRepository::processedTotal);
+        apiMetrics.registerInMemoryOutboxCompleted("failed", outbox, InMemoryOutboxRepository::failedTotal);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        int n = consumers > 0 ? consumers : Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < n; i++) {
+            String workerId = "inmemory-outbox-" + i;
+            Thread t = new Thread(() -> runLoop(workerId), workerId);
+            t.setDaemon(true);
+            t.start();
+            threads.add(t);
+        }
+        log.info("In-memory outbox worker started. consumers={} batchSize={}", n, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+    }
+
+    private void runLoop(String workerId) {
+        while (running) {
+            try {
+                if (!outbox.awaitWork(idleWaitMs, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+
+                Instant now = Instant.now();
+                int released = outbox.releaseStaleLocks(now.minusSeconds(lockTimeoutSeconds));
+                if (released > 0) {
+                    log.warn("Released {} stale outbox locks older than {} seconds", released, lockTimeoutSeconds);
+                }
+
+                List<OutboxEvent> events = outbox.claimReady(batchSize, now, workerId);
+                if (events.isEmpty()) continue;
+
+                List<UUID> processed = new ArrayList<>(events.size());
+                List<OutboxReschedule> rescheduled = new ArrayList<>();
+                List<UUID> failed = new ArrayList<>();
+                for (OutboxEvent e : events) {
+                    process(e, processed, rescheduled, failed);
+                }
+
+                Instant doneAt = Instant.now();
+                outbox.markProcessed(processed, doneAt);
+                outbox.reschedule(rescheduled);
+                outbox.markFailed(failed, doneAt, "failed");
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("In-memory outbox worker loop error", e);
+            }
+        }
+    }
+
+    private void process(OutboxEvent e, List<UUID> processed, List<OutboxReschedule> rescheduled, List<UUID> failed) {
+        String correlationId = OutboxEvent.correlationIdOf(e.payload());
+        if (correlationId != null) MDC.put("correlationId", correlationId);
+
+        try {
+            ProcessOrderUseCase.Outcome outcome = processOrderUseCase.execute(e.aggregateId(), Instant.now(), maxRetries);
+
+            if (outcome == ProcessOrderUseCase.Outcome.PROCESSED
+                    || outcome == ProcessOrderUseCase.Outcome.ALREADY_PROCESSED) {
+                processed.add(e.id());
+                log.debug("Order {} PROCESSED; outbox {} -> PROCESSED", e.aggregateId(), e.id());
+
+            } else if (outcome == ProcessOrderUseCase.Outcome.RETRY) {
+                Instant nextAttemptAt = retryPolicy.nextAttemptAt(Instant.now(), e.attempts() + 1, e.eventType());
+                rescheduled.add(new OutboxReschedule(e.id(), nextAttemptAt, "retry"));
+                log.debug("Order {} RETRY; outbox {} -> rescheduled for {}", e.aggregateId(), e.id(), nextAttemptAt);
+
+            } else {
+                failed.add(e.id());
+                log.warn("Order {} FAILED; outbox {} -> FAILED", e.aggregateId(), e.id());
+            }
+        } catch (Exception ex) {
+            log.error("Outbox {} processing error for order {}. Left for stale-lock recovery. err={}",
+                    e.id(), e.aggregateId(), ex.toString());
+        } finally {
+            MDC.remove("correlationId");
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.orderplatform.api.infrastructure.worker;
 
 import com.orderplatform.api.infrastructure.messaging.InMemoryOrderQueue;
-import com.orderplatform.core.application.port.OrderProcessor;
+import com.orderplatform.core.application.port.OrderRepository;
+import com.orderplatform.core.application.retry.RetryPolicy;
 import com.orderplatform.core.application.usecase.ProcessOrderUseCase;
+import com.orderplatform.core.domain.order.Order;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,8 +12,12 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
 
 @ConditionalOnProperty(name = "order.events.mode", havingValue = "inmemory", matchIfMissing = true)
 @Component
@@ -19,27 +25,46 @@ public class OrderWorker{
 
     private static final Logger log = LoggerFactory.getLogger(OrderWorker.class);
 
+    private static final long QUEUE_FULL_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     @Value("${order.worker.maxRetries:3}")
     private int maxRetries;
 
-
-    @Value("${order.worker.retryDelayMs:1000}")
-    private long retryDelayMs;
+    // 0 = one per available core
+    @Value("${order.worker.consumers:0}")
+    private int consumers;
 
     private final InMemoryOrderQueue queue;
     private final ProcessOrderUseCase processOrderUseCase;
+    private final OrderRepository orderRepository;
+    private final RetryPolicy retryPolicy;
+
+    // retries wait here until due, so the worker thread keeps processing other orders meanwhile
+    private final DelayQueue<ScheduledRetry> retries = new DelayQueue<>();
 
-    public OrderWorker(InMemoryOrderQueue queue, ProcessOrderUseCase processOrderUseCase) {
+    public OrderWorker(InMemoryOrderQueue queue,
+                       ProcessOrderUseCase processOrderUseCase,
+                       OrderRepository orderRepository,
+                       RetryPolicy retryPolicy) {
         this.queue = queue;
         this.processOrderUseCase = processOrderUseCase;
+        this.orderRepository = orderRepository;
+        this.retryPolicy = retryPolicy;
     }
 
     @PostConstruct
     public void start() {
-        Thread workerThread = new Thread(this::runLoop, "order-worker");
-        workerThread.setDaemon(true);
-        workerThread.start();
-        log.info("OrderWorker started");
+        int threads = consumers > 0 ? consumers : Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < threads; i++) {
+            Thread workerThread = new Thread(this::runLoop, "order-worker-" + i);
+            workerThread.setDaemon(true);
+            workerThread.start();
+        }
+
+        Thread retryThread = new Thread(this::retryLoop, "order-worker-retry");
+        retryThread.setDaemon(true);
+        retryThread.start();
+        log.info("OrderWorker started. consumers={}", threads);
     }
 
     private void runLoop() {
@@ -52,9 +77,7 @@ public class OrderWorker{
                         processOrderUseCase.execute(orderId, Instant.now(), maxRetries);
 
                 if (outcome == ProcessOrderUseCase.Outcome.RETRY) {
-                    sleepQuietly(retryDelayMs);
-                    queue.publish(orderId);
-                    log.info("Re-enqueued order {} for retry", orderId);
+                    scheduleRetry(orderId);
                 }
 
             } catch (InterruptedException e) {
@@ -66,11 +89,51 @@ public class OrderWorker{
         }
     }
 
-    private void sleepQuietly(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    private void scheduleRetry(UUID orderId) {
+        // retryCount was already incremented by markRetryableFailure: it is the number of this retry
+        int attempt = orderRepository.findById(orderId)
+                .map(Order::getRetryCount)
+                .orElse(1);
+        Duration delay = retryPolicy.delay(attempt);
+        retries.put(new ScheduledRetry(orderId, System.nanoTime() + delay.toNanos()));
+        log.info("Order {} scheduled for retry #{} in {} ms", orderId, attempt, delay.toMillis());
+    }
+
+    /**
+     * For an OrderCreated the publisher could not enqueue because the queue stayed full: it waits in the
+     * retry lane and is enqueued once there is room, instead of leaving a committed order PENDING forever.
+     */
+    public void publishLater(UUID orderId) {
+        retries.put(new ScheduledRetry(orderId, System.nanoTime() + QUEUE_FULL_BACKOFF_NANOS));
+    }
+
+    private void retryLoop() {
+        while (true) {
+            try {
+                ScheduledRetry due = retries.take();
+                if (queue.publish(due.orderId())) {
+                    log.info("Re-enqueued order {} for retry", due.orderId());
+                } else {
+                    // queue still full: keep the retry in this lane and try again shortly
+                    publishLater(due.orderId());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private record ScheduledRetry(UUID orderId, long dueAtNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtNanos, ((ScheduledRetry) other).dueAtNanos);
         }
     }
 }
@@ -0,0 +1,13 @@
+-- Idempotency-Key on POST /orders: a key maps to the order created by its first request.
+-- The primary key is the dedupe: a retry's INSERT ... ON CONFLICT DO NOTHING creates nothing,
+-- and a concurrent duplicate waits for the first transaction and then does nothing either.
+
+CREATE TABLE IF NOT EXISTS order_idempotency_keys (
+    idempotency_key   VARCHAR(255) PRIMARY KEY,
+    order_id          UUID NOT NULL,
+    created_at        TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+-- for expiring old keys by age
+CREATE INDEX IF NOT EXISTS idx_order_idempotency_keys_created
+    ON order_idempotency_keys (created_at);
@@ -0,0 +1,39 @@
+-- Backlog deltas for status transitions, raised by the UPDATE itself instead of a separate
+-- SELECT pg_notify(...) from the worker after every claim and bulk transition.
+--
+--   order_outbox_stats  "<pending delta>,<processing delta>,<nonce>"   (same payload as before, see V9)
+--
+-- Fires once per statement; statements that change no PENDING/PROCESSING count stay silent.
+-- Like every NOTIFY it is delivered only if the transaction commits.
+
+CREATE OR REPLACE FUNCTION notify_order_outbox_stats() RETURNS trigger AS $$
+DECLARE
+    pending    BIGINT;
+    processing BIGINT;
+BEGIN
+    SELECT coalesce(sum(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END), 0),
+           coalesce(sum(CASE WHEN status = 'PROCESSING' THEN 1 ELSE 0 END), 0)
+    INTO pending, processing
+    FROM new_rows;
+
+    SELECT pending - coalesce(sum(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END), 0),
+           processing - coalesce(sum(CASE WHEN status = 'PROCESSING' THEN 1 ELSE 0 END), 0)
+    INTO pending, processing
+    FROM old_rows;
+
+    IF pending <> 0 OR processing <> 0 THEN
+        PERFORM pg_notify('order_outbox_stats',
+            pending || ',' || processing
+              || ',' || floor(extract(epoch FROM clock_timestamp()) * 1000000)::bigint);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_order_outbox_stats ON order_outbox;
+
+CREATE TRIGGER trg_order_outbox_stats
+    AFTER UPDATE ON order_outbox
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_order_outbox_stats();
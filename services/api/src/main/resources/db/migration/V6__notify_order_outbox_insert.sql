@@ -0,0 +1,17 @@
+-- Wake up outbox consumers as soon as new events are committed (worker: LISTEN order_outbox).
+-- Statement-level trigger: one notification per INSERT statement, and Postgres folds
+-- identical notifications raised in the same transaction. Delivered only on commit.
+
+CREATE OR REPLACE FUNCTION notify_order_outbox() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('order_outbox', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_order_outbox_notify ON order_outbox;
+
+CREATE TRIGGER trg_order_outbox_notify
+    AFTER INSERT ON order_outbox
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_order_outbox();
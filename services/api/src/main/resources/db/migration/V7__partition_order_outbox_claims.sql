@@ -0,0 +1,18 @@
+-- Hash partitioning for outbox claiming across a worker fleet.
+-- partition_key is derived from aggregate_id, so every event of one order lands in the same partition.
+-- Workers register in outbox_workers and split the 64 partitions between the live members.
+-- NOTE: the partition count (64) is mirrored in the worker (OutboxPartitionAssignment.PARTITIONS).
+
+ALTER TABLE order_outbox
+    ADD COLUMN IF NOT EXISTS partition_key SMALLINT
+        GENERATED ALWAYS AS (((hashtext(aggregate_id::text) & 2147483647) % 64)::smallint) STORED;
+
+-- Partitioned claim: only PENDING rows matter, per partition in claim order
+CREATE INDEX IF NOT EXISTS idx_outbox_partition_ready
+    ON order_outbox (partition_key, next_attempt_at, created_at)
+    WHERE status = 'PENDING';
+
+CREATE TABLE IF NOT EXISTS outbox_workers (
+    worker_id     VARCHAR(100) PRIMARY KEY,
+    heartbeat_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
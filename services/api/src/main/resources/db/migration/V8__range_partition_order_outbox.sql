@@ -0,0 +1,77 @@
+-- Range-partition order_outbox by created_at (one partition per UTC day) so history can be dropped
+-- partition by partition instead of bloating the table and its indexes forever.
+--
+--   order_outbox_history     everything created before this migration ran (purged in batches, then dropped)
+--   order_outbox_pYYYYMMDD   one per UTC day, pre-created ahead by the worker's OutboxArchiverJob
+--   order_outbox_default     safety net if the job fell behind; purged in batches like history
+--
+-- The primary key has to include the partition column. id stays unique in practice (random UUIDs).
+-- Runs in a single transaction: the outbox is locked while the rows are copied.
+
+CREATE TABLE order_outbox_partitioned (
+    id               UUID NOT NULL,
+    aggregate_id     UUID NOT NULL,
+    event_type       VARCHAR(100) NOT NULL,
+    payload          TEXT NULL,
+    status           VARCHAR(20) NOT NULL,
+    attempts         INT NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    locked_at        TIMESTAMP WITH TIME ZONE NULL,
+    locked_by        VARCHAR(100) NULL,
+    processed_at     TIMESTAMP WITH TIME ZONE NULL,
+    last_error       TEXT NULL,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    partition_key    SMALLINT
+        GENERATED ALWAYS AS (((hashtext(aggregate_id::text) & 2147483647) % 64)::smallint) STORED,
+    CONSTRAINT order_outbox_pk PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+    today DATE := (NOW() AT TIME ZONE 'UTC')::date;
+    d     DATE;
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE order_outbox_history PARTITION OF order_outbox_partitioned FOR VALUES FROM (MINVALUE) TO (%L)',
+        today::timestamp AT TIME ZONE 'UTC');
+
+    FOR i IN 0..7 LOOP
+        d := today + i;
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF order_outbox_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'order_outbox_p' || to_char(d, 'YYYYMMDD'),
+            d::timestamp AT TIME ZONE 'UTC',
+            (d + 1)::timestamp AT TIME ZONE 'UTC');
+    END LOOP;
+END $$;
+
+CREATE TABLE order_outbox_default PARTITION OF order_outbox_partitioned DEFAULT;
+
+INSERT INTO order_outbox_partitioned (
+    id, aggregate_id, event_type, payload, status, attempts, next_attempt_at,
+    locked_at, locked_by, processed_at, last_error, created_at)
+SELECT id, aggregate_id, event_type, payload, status, attempts, next_attempt_at,
+       locked_at, locked_by, processed_at, last_error, created_at
+FROM order_outbox;
+
+-- drops the old indexes and the NOTIFY trigger with it
+DROP TABLE order_outbox;
+
+ALTER TABLE order_outbox_partitioned RENAME TO order_outbox;
+
+-- Indexes on the parent are created on every partition, present and future
+CREATE INDEX idx_outbox_ready
+    ON order_outbox (status, next_attempt_at, created_at);
+
+CREATE INDEX idx_outbox_aggregate
+    ON order_outbox (aggregate_id);
+
+CREATE INDEX idx_outbox_partition_ready
+    ON order_outbox (partition_key, next_attempt_at, created_at)
+    WHERE status = 'PENDING';
+
+-- Same statement-level NOTIFY as V6
+CREATE TRIGGER trg_order_outbox_notify
+    AFTER INSERT ON order_outbox
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_order_outbox();
@@ -0,0 +1,33 @@
+-- Carry backlog deltas on the outbox notifications so consumers can keep counts without count(*).
+--
+--   order_outbox        (this trigger)  "<pending rows inserted>,<oldest created_at epoch ms>,<nonce>"
+--   order_outbox_stats  (worker)        "<pending delta>,<processing delta>,<nonce>"
+--
+-- The nonce keeps Postgres from folding identical payloads raised in one transaction.
+-- Worker wake-ups ignore the payload; an insert without PENDING rows no longer notifies.
+
+CREATE OR REPLACE FUNCTION notify_order_outbox() RETURNS trigger AS $$
+DECLARE
+    n      BIGINT;
+    oldest TIMESTAMP WITH TIME ZONE;
+BEGIN
+    SELECT count(*), min(created_at) INTO n, oldest
+    FROM inserted
+    WHERE status = 'PENDING';
+
+    IF n > 0 THEN
+        PERFORM pg_notify('order_outbox',
+            n || ',' || floor(extract(epoch FROM oldest) * 1000)::bigint
+              || ',' || floor(extract(epoch FROM clock_timestamp()) * 1000000)::bigint);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_order_outbox_notify ON order_outbox;
+
+CREATE TRIGGER trg_order_outbox_notify
+    AFTER INSERT ON order_outbox
+    REFERENCING NEW TABLE AS inserted
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_order_outbox();
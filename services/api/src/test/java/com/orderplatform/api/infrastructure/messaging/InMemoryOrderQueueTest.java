@@ -0,0 +1,84 @@
+package com.orderplatform.api.infrastructure.messaging;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryOrderQueueTest {
+
+    private static InMemoryOrderQueue queue(int capacity, long publishTimeoutMs) {
+        return new InMemoryOrderQueue(capacity, publishTimeoutMs, new ApiMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void sleepingConsumersAreWokenByPublish() throws Exception {
+        InMemoryOrderQueue queue = queue(16, 100);
+        int consumers = 4;
+        Set<UUID> taken = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(consumers);
+
+        ExecutorService pool = Executors.newFixedThreadPool(consumers);
+        try {
+            for (int i = 0; i < consumers; i++) {
+                pool.submit(() -> {
+                    taken.add(queue.take());
+                    done.countDown();
+                    return null;
+                });
+            }
+            // long enough for every consumer to stop spinning and go to sleep on the empty queue
+            Thread.sleep(200);
+            assertThat(done.getCount()).isEqualTo(consumers);
+
+            for (int i = 0; i < consumers; i++) {
+                assertThat(queue.publish(UUID.randomUUID())).isTrue();
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(taken).hasSize(consumers);
+            assertThat(queue.depth()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void sleepingConsumerStopsOnInterrupt() throws Exception {
+        InMemoryOrderQueue queue = queue(16, 100);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<UUID> take = pool.submit(queue::take);
+            assertThatThrownBy(() -> take.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            take.cancel(true);
+            pool.shutdown();
+            assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void publishGivesUpWhenTheQueueStaysFull() {
+        InMemoryOrderQueue queue = queue(2, 50);
+
+        assertThat(queue.publish(UUID.randomUUID())).isTrue();
+        assertThat(queue.publish(UUID.randomUUID())).isTrue();
+        long start = System.nanoTime();
+        assertThat(queue.publish(UUID.randomUUID())).isFalse();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(queue.depth()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,116 @@
+package com.orderplatform.api.infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MpmcRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertThat(new MpmcRingBuffer<Integer>(2).capacity()).isEqualTo(2);
+        assertThat(new MpmcRingBuffer<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new MpmcRingBuffer<Integer>(8192).capacity()).isEqualTo(8192);
+        assertThatThrownBy(() -> new MpmcRingBuffer<Integer>(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void offerFailsWhenFullAndPollWhenEmpty() {
+        MpmcRingBuffer<Integer> ring = new MpmcRingBuffer<>(4);
+
+        assertThat(ring.poll()).isNull();
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(i)).isTrue();
+        }
+        assertThat(ring.offer(4)).isFalse();
+        assertThat(ring.size()).isEqualTo(4);
+
+        // FIFO, and the freed slot is reusable one lap later
+        assertThat(ring.poll()).isEqualTo(0);
+        assertThat(ring.offer(4)).isTrue();
+        for (int i = 1; i <= 4; i++) {
+            assertThat(ring.poll()).isEqualTo(i);
+        }
+        assertThat(ring.poll()).isNull();
+        assertThat(ring.size()).isZero();
+    }
+
+    @Test
+    void concurrentProducersAndConsumersHandOverEveryElementExactlyOnce() throws Exception {
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 50_000;
+        int total = producers * perProducer;
+
+        // small ring so producers keep lapping consumers and both sides see full/empty
+        MpmcRingBuffer<Integer> ring = new MpmcRingBuffer<>(64);
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int first = p * perProducer;
+                tasks.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = first; i < first + perProducer; i++) {
+                        // yield rather than spin, so this also finishes quickly on a single core
+                        while (!ring.offer(i)) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                tasks.add(pool.submit(() -> {
+                    start.await();
+                    int[] lastPerProducer = new int[producers];
+                    Arrays.fill(lastPerProducer, -1);
+                    while (consumed.get() < total) {
+                        Integer value = ring.poll();
+                        if (value == null) {
+                            Thread.yield();
+                            continue;
+                        }
+                        seen.incrementAndGet(value);
+                        consumed.incrementAndGet();
+                        // one producer's elements come out in the order it put them in
+                        int producer = value / perProducer;
+                        assertThat(value).isGreaterThan(lastPerProducer[producer]);
+                        lastPerProducer[producer] = value;
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(consumed.get()).isEqualTo(total);
+        for (int i = 0; i < total; i++) {
+            assertThat(seen.get(i)).as("element %d", i).isEqualTo(1);
+        }
+        assertThat(ring.poll()).isNull();
+        assertThat(ring.size()).isZero();
+    }
+}
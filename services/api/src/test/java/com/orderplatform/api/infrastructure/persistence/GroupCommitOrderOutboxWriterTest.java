@@ -0,0 +1,222 @@
+package com.orderplatform.api.infrastructure.persistence;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.domain.order.Order;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupCommitOrderOutboxWriterTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final StubWriter delegate = new StubWriter();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private GroupCommitOrderOutboxWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        delegate.release();
+        if (writer != null) writer.stop();
+        callers.shutdownNow();
+    }
+
+    private GroupCommitOrderOutboxWriter start(long windowMs, int maxBatch, long maxWaitMs, int queueCapacity) {
+        writer = new GroupCommitOrderOutboxWriter(delegate, new ApiMetrics(new SimpleMeterRegistry()), queueCapacity);
+        ReflectionTestUtils.setField(writer, "windowMs", windowMs);
+        ReflectionTestUtils.setField(writer, "maxBatch", maxBatch);
+        ReflectionTestUtils.setField(writer, "flushers", 1);
+        ReflectionTestUtils.setField(writer, "maxWaitMs", maxWaitMs);
+        writer.start();
+        return writer;
+    }
+
+    private List<Future<UUID>> submit(int n) {
+        List<Future<UUID>> calls = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            calls.add(callers.submit(() -> {
+                UUID id = UUID.randomUUID();
+                writer.insertWithEvent(Order.newPending(id, T0), OutboxEvent.orderCreated(id, "cid", T0));
+                return id;
+            }));
+        }
+        return calls;
+    }
+
+    private static List<UUID> await(List<Future<UUID>> calls) throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        for (Future<UUID> call : calls) {
+            ids.add(call.get(10, TimeUnit.SECONDS));
+        }
+        return ids;
+    }
+
+    @Test
+    void callersWithinTheWindowShareOneWriteAndAllComplete() throws Exception {
+        start(1_000, 128, 10_000, 100);
+
+        List<UUID> ids = await(submit(8));
+
+        assertThat(delegate.batches).hasSize(1);
+        assertThat(delegate.batches.get(0)).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(delegate.direct.get()).isZero();
+    }
+
+    @Test
+    void maxBatchCutsTheGroupBeforeTheWindowEnds() throws Exception {
+        start(5_000, 4, 10_000, 100);
+
+        long started = System.nanoTime();
+        await(submit(8));
+
+        // two full groups, neither waited out the 5 s window
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(2_000);
+        assertThat(delegate.batches).extracting(List::size).containsExactly(4, 4);
+    }
+
+    @Test
+    void failedWriteIsReportedToEveryCallerInTheGroup() throws Exception {
+        IllegalStateException failure = new IllegalStateException("connection reset");
+        delegate.failWith(failure);
+        start(1_000, 128, 10_000, 100);
+
+        List<Future<UUID>> calls = submit(5);
+
+        for (Future<UUID> call : calls) {
+            assertThatThrownBy(() -> call.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCause(failure);
+        }
+        assertThat(delegate.batches).hasSize(1);
+    }
+
+    @Test
+    void fullQueueFallsBackToADirectWrite() throws Exception {
+        delegate.block();
+        start(0, 128, 10_000, 1);
+        List<Future<UUID>> flushing = submit(1);
+        delegate.awaitEntered();
+        List<Future<UUID>> queued = submit(1);
+        Thread.sleep(200);
+
+        UUID id = UUID.randomUUID();
+        writer.insertWithEvent(Order.newPending(id, T0), OutboxEvent.orderCreated(id, "cid", T0));
+
+        assertThat(delegate.direct.get()).isEqualTo(1);
+        assertThat(queued.get(0).isDone()).isFalse();
+        delegate.release();
+        await(flushing);
+        await(queued);
+    }
+
+    @Test
+    void callerGivesUpAfterMaxWait() {
+        delegate.block();
+        start(0, 128, 200, 100);
+
+        UUID id = UUID.randomUUID();
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> writer.insertWithEvent(Order.newPending(id, T0), OutboxEvent.orderCreated(id, "cid", T0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("timed out after 200 ms");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isBetween(150L, 5_000L);
+    }
+
+    @Test
+    void stopWritesWhatIsStillQueued() throws Exception {
+        delegate.block();
+        start(0, 128, 10_000, 100);
+        List<Future<UUID>> flushing = submit(1);
+        delegate.awaitEntered();
+        List<Future<UUID>> queued = submit(3);
+        Thread.sleep(200);
+
+        // the flusher is stuck in its write, so stop() itself has to write the queued three
+        delegate.blockOnlyFirst();
+        writer.stop();
+
+        assertThat(await(queued)).containsExactlyInAnyOrderElementsOf(delegate.batches.get(0));
+        delegate.release();
+        await(flushing);
+        assertThat(delegate.batches).hasSize(2);
+    }
+
+    /** Records every grouped write attempt; can hold a write until released, or fail it. */
+    private static final class StubWriter extends JdbcOrderOutboxWriter {
+
+        final List<List<UUID>> batches = new CopyOnWriteArrayList<>();
+        final AtomicInteger direct = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean blocking;
+        private volatile boolean firstOnly;
+        private volatile RuntimeException failure;
+
+        StubWriter() {
+            super(null);
+        }
+
+        void block() {
+            blocking = true;
+        }
+
+        void blockOnlyFirst() {
+            firstOnly = true;
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        void failWith(RuntimeException ex) {
+            failure = ex;
+        }
+
+        void awaitEntered() throws InterruptedException {
+            assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Override
+        public void insertWithEvent(Order order, OutboxEvent event) {
+            direct.incrementAndGet();
+        }
+
+        @Override
+        public void insertAllWithEvents(List<Order> orders, List<OutboxEvent> events) {
+            if (blocking && !(firstOnly && entered.getCount() == 0)) {
+                entered.countDown();
+                // uninterruptible, like a JDBC call: stop() interrupting the flusher must not cut it short
+                boolean interrupted = false;
+                while (true) {
+                    try {
+                        released.await();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) Thread.currentThread().interrupt();
+            }
+            batches.add(orders.stream().map(Order::getId).toList());
+            if (failure != null) throw failure;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.orderplatform.api.infrastructure.web;
+
+import com.orderplatform.api.infrastructure.observability.ApiMetrics;
+import com.orderplatform.api.infrastructure.observability.OutboxBacklog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final FakeBacklog backlog = new FakeBacklog();
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(backlog, new ApiMetrics(new SimpleMeterRegistry()));
+
+    @BeforeEach
+    void thresholds() {
+        ReflectionTestUtils.setField(filter, "shedBacklog", 100L);
+        ReflectionTestUtils.setField(filter, "resumeBacklog", 50L);
+        ReflectionTestUtils.setField(filter, "shedOldestAgeSeconds", 300.0);
+        ReflectionTestUtils.setField(filter, "resumeOldestAgeSeconds", 60.0);
+        ReflectionTestUtils.setField(filter, "retryAfterSeconds", 5);
+    }
+
+    private int post(String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    @Test
+    void backlogShedsAtTheShedThresholdAndResumesOnlyUnderTheResumeThreshold() throws Exception {
+        backlog.backlog = 99;
+        assertThat(post("/orders")).isEqualTo(200);
+
+        backlog.backlog = 100;
+        assertThat(post("/orders")).isEqualTo(429);
+        assertThat(post("/orders/batch")).isEqualTo(429);
+
+        // between the thresholds: hysteresis keeps shedding
+        backlog.backlog = 70;
+        assertThat(post("/orders")).isEqualTo(429);
+
+        backlog.backlog = 50;
+        assertThat(post("/orders")).isEqualTo(200);
+        backlog.backlog = 70;
+        assertThat(post("/orders")).isEqualTo(200);
+    }
+
+    @Test
+    void oldestAgeShedsAndBothSignalsMustRecoverToResume() throws Exception {
+        backlog.oldestAgeSeconds = 300;
+        assertThat(post("/orders")).isEqualTo(429);
+
+        backlog.oldestAgeSeconds = 61;
+        assertThat(post("/orders")).isEqualTo(429);
+
+        backlog.oldestAgeSeconds = 60;
+        backlog.backlog = 51;
+        assertThat(post("/orders")).isEqualTo(429);
+
+        backlog.backlog = 50;
+        assertThat(post("/orders")).isEqualTo(200);
+    }
+
+    @Test
+    void oldestPendingIsRefreshedOnlyWhileShedding() throws Exception {
+        assertThat(post("/orders")).isEqualTo(200);
+        assertThat(backlog.refreshing).isFalse();
+
+        backlog.oldestAgeSeconds = 400;
+        post("/orders");
+        assertThat(backlog.refreshing).isTrue();
+
+        backlog.oldestAgeSeconds = 1;
+        post("/orders");
+        assertThat(backlog.refreshing).isFalse();
+    }
+
+    @Test
+    void readsAreNeverShed() throws Exception {
+        backlog.backlog = 1_000;
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(post("/orders")).isEqualTo(429);
+    }
+
+    private static final class FakeBacklog implements OutboxBacklog {
+
+        long backlog;
+        double oldestAgeSeconds;
+        boolean refreshing;
+
+        @Override
+        public long backlog() {
+            return backlog;
+        }
+
+        @Override
+        public long processing() {
+            return 0;
+        }
+
+        @Override
+        public double oldestPendingAgeSeconds() {
+            return oldestAgeSeconds;
+        }
+
+        @Override
+        public void refreshOldestPending(boolean enabled) {
+            refreshing = enabled;
+        }
+    }
+}
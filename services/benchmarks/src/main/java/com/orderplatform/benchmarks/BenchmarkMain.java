@@ -0,0 +1,32 @@
+package com.orderplatform.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of benchmarks.jar: plain JMH, plus two defaults so every run is comparable between commits.
+ * Unless overridden on the command line it adds the gc profiler (-prof gc: allocation rate per op next to
+ * throughput) and writes JSON results to jmh-result.json (-rf json -rff jmh-result.json).
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> argv = new ArrayList<>(Arrays.asList(args));
+        if (!argv.contains("-prof")) {
+            argv.addAll(List.of("-prof", "gc"));
+        }
+        if (!argv.contains("-rf")) {
+            argv.addAll(List.of("-rf", "json"));
+        }
+        if (!argv.contains("-rff")) {
+            argv.addAll(List.of("-rff", "jmh-result.json"));
+        }
+        Main.main(argv.toArray(String[]::new));
+    }
+}
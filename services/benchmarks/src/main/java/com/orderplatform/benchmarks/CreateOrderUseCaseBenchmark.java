@@ -0,0 +1,85 @@
+package com.orderplatform.benchmarks;
+
+import com.orderplatform.core.application.model.CreatedOrder;
+import com.orderplatform.core.application.usecase.CreateOrderUseCase;
+import com.orderplatform.core.application.usecase.CreateOrderWithOutboxUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order creation in both flavours the API uses: CreateOrderUseCase (order row only; the event is published
+ * after commit) and CreateOrderWithOutboxUseCase (order + OrderCreated outbox event, single and batch).
+ * Ports are sinks, so this is id generation, domain objects and payload building.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CreateOrderUseCaseBenchmark {
+
+    private static final int BATCH = 100;
+
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+    private final String correlationId = "6f1c2a9e-5b7d-4c3e-9a10-2d8f4b6e7c01";
+
+    private CreateOrderUseCase createOrder;
+    private CreateOrderUseCase createOrderReplay;
+    private CreateOrderWithOutboxUseCase createWithOutbox;
+
+    @Setup
+    public void setUp() {
+        createOrder = new CreateOrderUseCase(new InMemoryPorts.OrderSink(), new InMemoryPorts.IdempotencyKeys());
+
+        InMemoryPorts.IdempotencyKeys claimed = new InMemoryPorts.IdempotencyKeys();
+        claimed.owner = UUID.randomUUID();
+        createOrderReplay = new CreateOrderUseCase(new InMemoryPorts.OrderSink(), claimed);
+
+        createWithOutbox = new CreateOrderWithOutboxUseCase(new InMemoryPorts.OutboxSink());
+    }
+
+    @Benchmark
+    public UUID create() {
+        return createOrder.execute(now);
+    }
+
+    @Benchmark
+    public CreatedOrder createIdempotent() {
+        return createOrder.execute(now, "key-1");
+    }
+
+    @Benchmark
+    public CreatedOrder createIdempotentReplay() {
+        return createOrderReplay.execute(now, "key-1");
+    }
+
+    @Benchmark
+    public UUID createWithOutbox() {
+        return createWithOutbox.execute(now, correlationId);
+    }
+
+    @Benchmark
+    public CreatedOrder createWithOutboxIdempotent() {
+        return createWithOutbox.execute(now, correlationId, "key-1");
+    }
+
+    /** Per op = one batch of BATCH orders; divide by BATCH for the per-order cost. */
+    @Benchmark
+    public List<UUID> createWithOutboxBatch() {
+        return createWithOutbox.executeBatch(BATCH, now, correlationId);
+    }
+}
@@ -0,0 +1,166 @@
+package com.orderplatform.benchmarks;
+
+import com.orderplatform.core.application.model.OrderDlqEntry;
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.port.OrderDlqRepository;
+import com.orderplatform.core.application.port.OrderIdempotencyRepository;
+import com.orderplatform.core.application.port.OrderOutboxWriter;
+import com.orderplatform.core.application.port.OrderRepository;
+import com.orderplatform.core.domain.order.Order;
+import com.orderplatform.core.domain.order.OrderStatus;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Minimal single-threaded port implementations, so the benchmarks measure the core and not a database.
+ * Benchmark state is per thread, hence plain HashMaps. Sinks keep only the last value written: they must
+ * not grow during a run or the gc numbers would measure the benchmark itself.
+ */
+final class InMemoryPorts {
+
+    private InMemoryPorts() {
+    }
+
+    /** Same compare-and-set semantics as the JDBC repository, applied with the domain transitions. */
+    static final class Orders implements OrderRepository {
+
+        private final Map<UUID, Order> orders = new HashMap<>();
+
+        @Override
+        public void save(Order order) {
+            orders.put(order.getId(), order);
+        }
+
+        @Override
+        public Optional<Order> findById(UUID id) {
+            return Optional.ofNullable(orders.get(id));
+        }
+
+        @Override
+        public boolean markProcessing(UUID id, Instant now) {
+            Order order = orders.get(id);
+            if (order == null || order.getStatus() != OrderStatus.PENDING) return false;
+            order.markProcessing(now);
+            return true;
+        }
+
+        @Override
+        public boolean markProcessed(UUID id, Instant now) {
+            Order order = orders.get(id);
+            if (order == null || order.getStatus() != OrderStatus.PROCESSING) return false;
+            order.markProcessed(now);
+            return true;
+        }
+
+        @Override
+        public Optional<Order> markFailure(UUID id, String reason, int maxRetries, Instant now) {
+            Order order = orders.get(id);
+            if (order == null || order.getStatus() != OrderStatus.PROCESSING) return Optional.empty();
+            if (order.getRetryCount() + 1 >= maxRetries) {
+                order.markFailed(reason, now);
+            } else {
+                order.markRetryableFailure(reason, now);
+            }
+            return Optional.of(order);
+        }
+    }
+
+    static final class OrderSink implements OrderRepository {
+
+        Order last;
+
+        @Override
+        public void save(Order order) {
+            last = order;
+        }
+
+        @Override
+        public Optional<Order> findById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean markProcessing(UUID id, Instant now) {
+            return false;
+        }
+
+        @Override
+        public boolean markProcessed(UUID id, Instant now) {
+            return false;
+        }
+
+        @Override
+        public Optional<Order> markFailure(UUID id, String reason, int maxRetries, Instant now) {
+            return Optional.empty();
+        }
+    }
+
+    /** Claims nothing unless told to: owner != null replays that order for every key. */
+    static final class IdempotencyKeys implements OrderIdempotencyRepository {
+
+        UUID owner;
+
+        @Override
+        public Optional<UUID> claim(String key, UUID orderId, Instant now) {
+            return Optional.ofNullable(owner);
+        }
+    }
+
+    static final class OutboxSink implements OrderOutboxWriter {
+
+        Order lastOrder;
+        OutboxEvent lastEvent;
+        int lastBatchSize;
+
+        @Override
+        public void insertWithEvent(Order order, OutboxEvent event) {
+            lastOrder = order;
+            lastEvent = event;
+        }
+
+        @Override
+        public Optional<UUID> insertWithEvent(String idempotencyKey, Order order, OutboxEvent event) {
+            insertWithEvent(order, event);
+            return Optional.empty();
+        }
+
+        @Override
+        public void insertAllWithEvents(List<Order> orders, List<OutboxEvent> events) {
+            lastBatchSize = orders.size() + events.size();
+        }
+    }
+
+    static final class DlqSink implements OrderDlqRepository {
+
+        int saved;
+
+        @Override
+        public void save(UUID orderId, String reason, int retryCount) {
+            saved++;
+        }
+
+        @Override
+        public List<OrderDlqEntry> findAll() {
+            return List.of();
+        }
+
+        @Override
+        public List<OrderDlqEntry> findLatest(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<OrderDlqEntry> findByOrderId(UUID orderId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void deleteByOrderId(UUID orderId) {
+        }
+    }
+}
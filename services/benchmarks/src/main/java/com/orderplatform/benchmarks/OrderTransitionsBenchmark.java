@@ -0,0 +1,55 @@
+package com.orderplatform.benchmarks;
+
+import com.orderplatform.core.domain.order.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order state machine: the happy path a worker drives, and a full retry / fail / reprocess cycle.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderTransitionsBenchmark {
+
+    private final UUID id = UUID.randomUUID();
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Benchmark
+    public Order newPending() {
+        return Order.newPending(id, now);
+    }
+
+    @Benchmark
+    public Order pendingToProcessed() {
+        Order order = Order.newPending(id, now);
+        order.markProcessing(now);
+        order.markProcessed(now);
+        return order;
+    }
+
+    @Benchmark
+    public Order retryThenFailThenReprocess() {
+        Order order = Order.newPending(id, now);
+        order.markProcessing(now);
+        order.markRetryableFailure("timeout", now);
+        order.markProcessing(now);
+        order.markFailed("timeout", now);
+        order.resetToPending("reprocess", now);
+        return order;
+    }
+}
@@ -0,0 +1,54 @@
+package com.orderplatform.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orderplatform.core.application.model.OutboxEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderCreated payload round trip: building it (OutboxEvent.orderCreated) and getting the correlation id
+ * back out, once with the scan the SQS relay uses and once with the Jackson tree parse of the outbox
+ * polling job, as a baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OutboxPayloadBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+    private final UUID orderId = UUID.randomUUID();
+    private final String correlationId = "6f1c2a9e-5b7d-4c3e-9a10-2d8f4b6e7c01";
+    private final String payload = OutboxEvent.orderCreated(orderId, correlationId, now).payload();
+
+    @Benchmark
+    public OutboxEvent buildOrderCreated() {
+        return OutboxEvent.orderCreated(orderId, correlationId, now);
+    }
+
+    @Benchmark
+    public String correlationIdScan() {
+        return OutboxEvent.correlationIdOf(payload);
+    }
+
+    @Benchmark
+    public String correlationIdJackson() throws Exception {
+        JsonNode cid = objectMapper.readTree(payload).get("correlationId");
+        return cid == null || cid.isNull() ? null : cid.asText();
+    }
+}
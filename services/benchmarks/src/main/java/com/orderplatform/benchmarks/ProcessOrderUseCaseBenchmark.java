@@ -0,0 +1,94 @@
+package com.orderplatform.benchmarks;
+
+import com.orderplatform.core.application.port.ProcessOrderInstrumentation;
+import com.orderplatform.core.application.usecase.ProcessOrderUseCase;
+import com.orderplatform.core.domain.order.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProcessOrderUseCase.execute over in-memory ports, per outcome: PROCESSED (happy path), RETRY (processor
+ * throws, retries left) and FAILED (processor throws, retries exhausted, DLQ write).
+ *
+ * Each op first stores a fresh PENDING order for the next id of a small ring, so every execute starts from
+ * the same state; that save is included in the numbers.
+ *
+ * instrumented=false runs with ProcessOrderInstrumentation.NOOP (no clock reads, no allocation); true adds the
+ * stage clock reads with a sink that only sums nanos, i.e. the use case's share of the stage timers' cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProcessOrderUseCaseBenchmark {
+
+    private static final int IDS = 1024;
+
+    // preallocated: the benchmark is about the use case, not about filling in stack traces
+    private static final Exception PROCESSING_ERROR = new Exception("simulated processing error", null, false, false) {
+    };
+
+    @Param({"PROCESSED", "RETRY", "FAILED"})
+    public ProcessOrderUseCase.Outcome outcome;
+
+    @Param({"false", "true"})
+    public boolean instrumented;
+
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+    private final UUID[] ids = new UUID[IDS];
+    private int next;
+
+    private InMemoryPorts.Orders orders;
+    private ProcessOrderUseCase useCase;
+    private int maxRetries;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < IDS; i++) {
+            ids[i] = UUID.randomUUID();
+        }
+        orders = new InMemoryPorts.Orders();
+        boolean fail = outcome != ProcessOrderUseCase.Outcome.PROCESSED;
+        useCase = new ProcessOrderUseCase(orders, new InMemoryPorts.DlqSink(), orderId -> {
+            if (fail) throw PROCESSING_ERROR;
+        }, instrumented ? new StageSums() : ProcessOrderInstrumentation.NOOP);
+        maxRetries = outcome == ProcessOrderUseCase.Outcome.FAILED ? 1 : 5;
+    }
+
+    @Benchmark
+    public ProcessOrderUseCase.Outcome execute() {
+        UUID id = ids[next++ & (IDS - 1)];
+        orders.save(Order.newPending(id, now));
+        return useCase.execute(id, now, maxRetries);
+    }
+
+    private static final class StageSums implements ProcessOrderInstrumentation {
+
+        private final long[] nanos = new long[Stage.values().length];
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public void stage(Stage stage, boolean ok, long elapsed) {
+            nanos[stage.ordinal()] += elapsed;
+        }
+    }
+}
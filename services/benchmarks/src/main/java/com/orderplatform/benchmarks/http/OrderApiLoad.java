@@ -0,0 +1,143 @@
+package com.orderplatform.benchmarks.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load against a running API, for comparing server settings (e.g. VIRTUAL_THREADS) rather
+ * than our own code: --concurrency clients each send one request, wait for the answer, and send the next.
+ *
+ *   --endpoint post   POST /orders (one order per request, no Idempotency-Key)
+ *   --endpoint get    GET /orders/{id} over --orders ids created up front
+ *
+ * Prints throughput, latency percentiles and the number of non-2xx answers for the measured window
+ * (--seconds, after --warmup-seconds). Run with: java -cp target/benchmarks.jar
+ * com.orderplatform.benchmarks.http.OrderApiLoad --base-url http://localhost:8080 --endpoint get
+ */
+public final class OrderApiLoad {
+
+    private static final Pattern ORDER_ID = Pattern.compile("\"orderId\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+
+    private OrderApiLoad() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = options(args);
+        String baseUrl = opts.getOrDefault("base-url", "http://localhost:8080");
+        String endpoint = opts.getOrDefault("endpoint", "post");
+        int concurrency = Integer.parseInt(opts.getOrDefault("concurrency", "64"));
+        int seconds = Integer.parseInt(opts.getOrDefault("seconds", "30"));
+        int warmupSeconds = Integer.parseInt(opts.getOrDefault("warmup-seconds", "10"));
+        int orders = Integer.parseInt(opts.getOrDefault("orders", "1000"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest create = HttpRequest.newBuilder(URI.create(baseUrl + "/orders"))
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        List<HttpRequest> requests = new ArrayList<>();
+        if (endpoint.equals("get")) {
+            for (int i = 0; i < orders; i++) {
+                Matcher m = ORDER_ID.matcher(client.send(create, HttpResponse.BodyHandlers.ofString()).body());
+                if (!m.find()) throw new IllegalStateException("POST /orders returned no orderId");
+                requests.add(HttpRequest.newBuilder(URI.create(baseUrl + "/orders/" + m.group(1)))
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build());
+            }
+        } else if (endpoint.equals("post")) {
+            requests.add(create);
+        } else {
+            throw new IllegalArgumentException("--endpoint must be post or get");
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = measureFrom + Duration.ofSeconds(seconds).toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<Client>> results = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            results.add(clients.submit(() -> new Client().run(client, requests, measureFrom, end)));
+        }
+        long[] latencies = new long[0];
+        long errors = 0;
+        for (Future<Client> f : results) {
+            Client c = f.get();
+            long[] merged = Arrays.copyOf(latencies, latencies.length + c.count);
+            System.arraycopy(c.latencies, 0, merged, latencies.length, c.count);
+            latencies = merged;
+            errors += c.errors;
+        }
+        clients.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("%s %s concurrency=%d: %.0f req/s, p50=%.2f ms p90=%.2f ms p99=%.2f ms max=%.2f ms, errors=%d%n",
+                endpoint.toUpperCase(), endpoint.equals("get") ? "/orders/{id}" : "/orders", concurrency,
+                latencies.length / (double) seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                percentile(latencies, 1.0), errors);
+    }
+
+    private static final class Client {
+
+        long[] latencies = new long[1 << 14];
+        int count;
+        long errors;
+
+        Client run(HttpClient client, List<HttpRequest> requests, long measureFrom, long end) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long now;
+            while ((now = System.nanoTime()) - end < 0) {
+                HttpRequest request = requests.get(random.nextInt(requests.size()));
+                boolean ok;
+                try {
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    ok = status >= 200 && status < 300;
+                } catch (Exception ex) {
+                    ok = false;
+                }
+                if (now - measureFrom < 0) continue;
+
+                if (!ok) errors++;
+                if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                latencies[count++] = System.nanoTime() - now;
+            }
+            return this;
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    // --name value pairs
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) throw new IllegalArgumentException("Expected --name value, got " + args[i]);
+            opts.put(args[i].substring(2), args[i + 1]);
+        }
+        return opts;
+    }
+}
@@ -0,0 +1,30 @@
+package com.orderplatform.common.config;
+
+import com.orderplatform.core.application.retry.RetryPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * The retry policy from order.retry.*, for every service that processes orders. Imported by the services'
+ * UseCaseConfig.
+ */
+@Configuration
+public class RetryPolicyConfig {
+
+    @Bean
+    public RetryPolicy retryPolicy(@Value("${order.retry.base-delay-ms:${order.worker.retryDelayMs:1000}}") long baseDelayMs,
+                                   @Value("${order.retry.max-delay-ms:60000}") long maxDelayMs,
+                                   @Value("${order.retry.multiplier:2.0}") double multiplier,
+                                   @Value("${order.retry.jitter:EQUAL}") RetryPolicy.Jitter jitter,
+                                   @Value("${order.retry.max-delay-by-event-type:}") String capsByEventType) {
+        return new RetryPolicy(
+                Duration.ofMillis(baseDelayMs),
+                Duration.ofMillis(Math.max(baseDelayMs, maxDelayMs)),
+                multiplier,
+                jitter,
+                RetryPolicy.parseCaps(capsByEventType));
+    }
+}
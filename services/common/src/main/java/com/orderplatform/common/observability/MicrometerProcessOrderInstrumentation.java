@@ -0,0 +1,43 @@
+package com.orderplatform.common.observability;
+
+import com.orderplatform.core.application.port.ProcessOrderInstrumentation;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Stage timers for ProcessOrderUseCase. All stage x result timers are registered up front through
+ * timerFactory (stage, result -> the service's own timer), so recording is an array lookup plus
+ * Timer.record: no tag lookups or allocations per order.
+ */
+public final class MicrometerProcessOrderInstrumentation implements ProcessOrderInstrumentation {
+
+    // [stage.ordinal() * 2] = ok, [stage.ordinal() * 2 + 1] = failed
+    private final Timer[] timers;
+
+    public MicrometerProcessOrderInstrumentation(BiFunction<String, String, Timer> timerFactory) {
+        Stage[] stages = Stage.values();
+        this.timers = new Timer[stages.length * 2];
+        for (Stage stage : stages) {
+            String name = stage.name().toLowerCase(Locale.ROOT);
+            timers[index(stage, true)] = timerFactory.apply(name, "ok");
+            timers[index(stage, false)] = timerFactory.apply(name, "failed");
+        }
+    }
+
+    @Override
+    public boolean enabled() {
+        return true;
+    }
+
+    @Override
+    public void stage(Stage stage, boolean ok, long nanos) {
+        timers[index(stage, ok)].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static int index(Stage stage, boolean ok) {
+        return stage.ordinal() * 2 + (ok ? 0 : 1);
+    }
+}
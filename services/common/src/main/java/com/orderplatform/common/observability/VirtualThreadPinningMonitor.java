@@ -0,0 +1,67 @@
+package com.orderplatform.common.observability;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Counts virtual threads pinned to their carrier (blocking inside synchronized or native code), which is
+ * what turns a virtual-thread server back into a fixed-size one. Reads the JDK's own
+ * jdk.VirtualThreadPinned JFR event in-process and hands every pin longer than the threshold to onPinned
+ * (each service's pinned-seconds timer).
+ *
+ * Registered by each service's ObservabilityConfig when spring.threads.virtual.enabled is set; a no-op
+ * below JDK 21, where the event does not exist and Boot ignores the setting.
+ */
+public final class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final Consumer<Duration> onPinned;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, Consumer<Duration> onPinned) {
+        this.threshold = threshold;
+        this.onPinned = onPinned;
+    }
+
+    public synchronized void start() {
+        if (Runtime.version().feature() < 21) {
+            log.warn("spring.threads.virtual.enabled is set but the runtime is JDK {}: requests stay on platform threads",
+                    Runtime.version().feature());
+            return;
+        }
+        if (stream != null) return;
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::pinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started. thresholdMs={}", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private void pinned(RecordedEvent event) {
+        onPinned.accept(event.getDuration());
+        if (log.isDebugEnabled() && event.getStackTrace() != null && !event.getStackTrace().getFrames().isEmpty()) {
+            RecordedFrame top = event.getStackTrace().getFrames().get(0);
+            log.debug("Virtual thread pinned for {} ms at {}.{}",
+                    event.getDuration().toMillis(), top.getMethod().getType().getName(), top.getMethod().getName());
+        }
+    }
+}
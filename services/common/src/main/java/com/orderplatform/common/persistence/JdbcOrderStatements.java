@@ -0,0 +1,96 @@
+package com.orderplatform.common.persistence;
+
+import com.orderplatform.core.domain.order.Order;
+import com.orderplatform.core.domain.order.OrderStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The orders statements behind both services' JpaOrderRepository.
+ *
+ * Transitions go straight to JDBC: one conditional UPDATE instead of a merge (SELECT + UPDATE).
+ * They join the surrounding transaction (JpaTransactionManager exposes its connection to JdbcTemplate).
+ */
+public final class JdbcOrderStatements {
+
+    private final JdbcTemplate jdbc;
+
+    public JdbcOrderStatements(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public boolean markProcessing(UUID id, Instant now) {
+        String sql = """
+            UPDATE orders
+            SET status = 'PROCESSING', failure_reason = NULL, updated_at = ?
+            WHERE id = ? AND status = 'PENDING'
+            """;
+        return jdbc.update(sql, utc(now), id) == 1;
+    }
+
+    public boolean markProcessed(UUID id, Instant now) {
+        String sql = """
+            UPDATE orders
+            SET status = 'PROCESSED', updated_at = ?
+            WHERE id = ? AND status = 'PROCESSING'
+            """;
+        return jdbc.update(sql, utc(now), id) == 1;
+    }
+
+    public Optional<Order> markFailure(UUID id, String reason, int maxRetries, Instant now) {
+        String sql = """
+            UPDATE orders
+            SET status = CASE WHEN retry_count + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END,
+                retry_count = retry_count + 1,
+                failure_reason = ?,
+                updated_at = ?
+            WHERE id = ? AND status = 'PROCESSING'
+            RETURNING id, status, created_at, updated_at, retry_count, failure_reason
+            """;
+        String failureReason = (reason == null || reason.isBlank()) ? "unknown" : reason;
+        return jdbc.query(sql, JdbcOrderStatements::mapOrder, maxRetries, failureReason, utc(now), id)
+                .stream()
+                .findFirst();
+    }
+
+    public List<Order> findAllById(Collection<UUID> ids) {
+        String sql = """
+            SELECT id, status, created_at, updated_at, retry_count, failure_reason
+            FROM orders
+            WHERE id = ANY(?)
+            """;
+        return jdbc.query(
+                con -> {
+                    var ps = con.prepareStatement(sql);
+                    ps.setArray(1, con.createArrayOf("uuid", ids.toArray()));
+                    return ps;
+                },
+                JdbcOrderStatements::mapOrder);
+    }
+
+    private static Order mapOrder(ResultSet rs, int rowNum) throws SQLException {
+        return Order.restore(
+                rs.getObject("id", UUID.class),
+                OrderStatus.valueOf(rs.getString("status")),
+                rs.getObject("created_at", LocalDateTime.class).toInstant(ZoneOffset.UTC),
+                rs.getObject("updated_at", LocalDateTime.class).toInstant(ZoneOffset.UTC),
+                rs.getInt("retry_count"),
+                rs.getString("failure_reason")
+        );
+    }
+
+    // orders uses TIMESTAMP (no time zone) holding UTC: bind like Hibernate does for Instant
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,12 @@
+package com.orderplatform.core.application.model;
+
+import java.util.UUID;
+
+/**
+ * Result of an idempotent create: replayed is true when the key already belonged to orderId
+ * and nothing new was written.
+ */
+public record CreatedOrder(
+        UUID orderId,
+        boolean replayed
+) {}
@@ -25,4 +25,31 @@ public record OutboxEvent(
                 now
         );
     }
+
+    public static OutboxEvent orderCreated(UUID orderId, String correlationId, Instant now) {
+        String payload = "{\"orderId\":\"%s\",\"correlationId\":%s}".formatted(
+                orderId,
+                correlationId == null ? "null" : "\"" + correlationId + "\""
+        );
+        return pending(orderId, "OrderCreated", payload, now);
+    }
+
+    /**
+     * Reads correlationId back out of a payload written by {@link #orderCreated} with a plain scan (no JSON
+     * parse, runs once per relayed event). Null when absent, JSON null or blank.
+     */
+    public static String correlationIdOf(String payload) {
+        if (payload == null) return null;
+        int i = payload.indexOf("\"correlationId\"");
+        if (i < 0) return null;
+        int colon = payload.indexOf(':', i);
+        if (colon < 0) return null;
+        int q1 = colon + 1;
+        while (q1 < payload.length() && Character.isWhitespace(payload.charAt(q1))) q1++;
+        if (q1 >= payload.length() || payload.charAt(q1) != '"') return null;
+        int q2 = payload.indexOf('"', q1 + 1);
+        if (q2 < 0) return null;
+        String correlationId = payload.substring(q1 + 1, q2);
+        return correlationId.isBlank() ? null : correlationId;
+    }
 }
@@ -0,0 +1,10 @@
+package com.orderplatform.core.application.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record OutboxReschedule(
+        UUID eventId,
+        Instant nextAttemptAt,
+        String lastError
+) {}
@@ -0,0 +1,11 @@
+package com.orderplatform.core.application.port;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderIdempotencyRepository {
+
+    // Binds key to orderId in the current transaction. Empty if the key was free, else the order that owns it.
+    Optional<UUID> claim(String key, UUID orderId, Instant now);
+}
@@ -0,0 +1,21 @@
+package com.orderplatform.core.application.port;
+
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.domain.order.Order;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Writes new orders together with their outbox events, atomically: either all rows exist or none.
+ */
+public interface OrderOutboxWriter {
+    void insertWithEvent(Order order, OutboxEvent event);
+
+    // Same write, only if idempotencyKey is free (the key row is part of it). Else the order that owns the key.
+    Optional<UUID> insertWithEvent(String idempotencyKey, Order order, OutboxEvent event);
+
+    // Many orders and their events in one atomic write (group commit)
+    void insertAllWithEvents(List<Order> orders, List<OutboxEvent> events);
+}
@@ -2,10 +2,30 @@ package com.orderplatform.core.application.port;
 
 import com.orderplatform.core.domain.order.Order;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository {
     void save(Order order);
     Optional<Order> findById(UUID id);
+
+    // The orders among ids that exist, unordered. Adapters that can should do it in one round trip.
+    default List<Order> findAllById(Collection<UUID> ids) {
+        List<Order> found = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    // Compare-and-set transitions: one UPDATE each, applied only when the order is in the expected state
+    boolean markProcessing(UUID id, Instant now);
+    boolean markProcessed(UUID id, Instant now);
+
+    // PROCESSING -> PENDING (retry) or FAILED once retryCount reaches maxRetries. Empty if not PROCESSING.
+    Optional<Order> markFailure(UUID id, String reason, int maxRetries, Instant now);
 }
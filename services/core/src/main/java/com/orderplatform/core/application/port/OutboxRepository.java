@@ -1,8 +1,10 @@
 package com.orderplatform.core.application.port;
 
 import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.model.OutboxReschedule;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,5 +17,11 @@ public interface OutboxRepository {
     void markFailed(UUID eventId, Instant failedAt, String lastError);
     int releaseStaleLocks(Instant olderThan);
 
+    // Bulk variants: one statement per call regardless of batch size
+    void markProcessed(Collection<UUID> eventIds, Instant processedAt);
+    void reschedule(Collection<OutboxReschedule> reschedules);
+    void markFailed(Collection<UUID> eventIds, Instant failedAt, String lastError);
 
+    // Partitioned claim: only events whose partition (hash of aggregate id) is in the given set
+    List<OutboxEvent> claimReady(int limit, Instant now, String lockedBy, Collection<Integer> partitions);
 }
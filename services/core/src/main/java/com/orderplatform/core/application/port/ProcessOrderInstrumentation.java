@@ -0,0 +1,57 @@
+package com.orderplatform.core.application.port;
+
+import java.util.List;
+
+/**
+ * Stage timings of ProcessOrderUseCase. The use case asks {@link #enabled()} once, when it is built:
+ * with {@link #NOOP} it never reads the clock or calls {@link #stage}, so the hot path stays allocation-free.
+ */
+public interface ProcessOrderInstrumentation {
+
+    enum Stage {
+        MARK_PROCESSING,   // PENDING -> PROCESSING compare-and-set
+        LOOKUP,            // read after a missed compare-and-set
+        PROCESS,           // OrderProcessor.process
+        MARK_PROCESSED,    // PROCESSING -> PROCESSED
+        MARK_FAILURE,      // PROCESSING -> PENDING (retry) or FAILED
+        DLQ_WRITE          // DLQ entry for a terminal failure
+    }
+
+    ProcessOrderInstrumentation NOOP = new ProcessOrderInstrumentation() {
+        @Override
+        public boolean enabled() {
+            return false;
+        }
+
+        @Override
+        public void stage(Stage stage, boolean ok, long nanos) {
+        }
+    };
+
+    /** Fans out to every enabled instrumentation; NOOP when none is enabled. */
+    static ProcessOrderInstrumentation of(List<ProcessOrderInstrumentation> instrumentations) {
+        ProcessOrderInstrumentation[] targets = instrumentations.stream()
+                .filter(ProcessOrderInstrumentation::enabled)
+                .toArray(ProcessOrderInstrumentation[]::new);
+        if (targets.length == 0) return NOOP;
+        if (targets.length == 1) return targets[0];
+        return new ProcessOrderInstrumentation() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public void stage(Stage stage, boolean ok, long nanos) {
+                for (ProcessOrderInstrumentation target : targets) {
+                    target.stage(stage, ok, nanos);
+                }
+            }
+        };
+    }
+
+    boolean enabled();
+
+    /** ok = false: the stage threw, its compare-and-set missed, or the order was not found. */
+    void stage(Stage stage, boolean ok, long nanos);
+}
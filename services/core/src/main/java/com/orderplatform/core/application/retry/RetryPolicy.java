@@ -0,0 +1,111 @@
+package com.orderplatform.core.application.retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter, shared by every retry path (outbox processor, relay, in-memory worker).
+ *
+ * delay(attempt) = min(cap, base * multiplier^(attempt - 1)), then jittered so that a burst of failures
+ * does not come back as one synchronized wave. attempt is 1 for the first retry.
+ * The cap can be overridden per event type (e.g. keep OrderCreated retries short).
+ */
+public class RetryPolicy {
+
+    public enum Jitter {
+        /** exact exponential delay */
+        NONE,
+        /** uniform in [0, delay] */
+        FULL,
+        /** uniform in [delay/2, delay]: spread out, but never retries almost immediately */
+        EQUAL
+    }
+
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final double multiplier;
+    private final Jitter jitter;
+    private final Map<String, Duration> maxDelayByEventType;
+
+    public RetryPolicy(Duration baseDelay,
+                       Duration maxDelay,
+                       double multiplier,
+                       Jitter jitter,
+                       Map<String, Duration> maxDelayByEventType) {
+        if (baseDelay.isNegative() || baseDelay.isZero()) {
+            throw new IllegalArgumentException("baseDelay must be positive");
+        }
+        if (maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("maxDelay must be >= baseDelay");
+        }
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("multiplier must be >= 1");
+        }
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.maxDelayByEventType = Map.copyOf(maxDelayByEventType);
+    }
+
+    public Duration delay(int attempt, String eventType) {
+        Duration cap = eventType == null ? maxDelay : maxDelayByEventType.getOrDefault(eventType, maxDelay);
+        long capMs = cap.toMillis();
+        long baseMs = baseDelay.toMillis();
+
+        int exponent = Math.max(0, attempt - 1);
+        double raw = baseMs * Math.pow(multiplier, exponent);
+        long delayMs = (long) Math.min(capMs, raw);
+
+        return Duration.ofMillis(applyJitter(delayMs));
+    }
+
+    public Duration delay(int attempt) {
+        return delay(attempt, null);
+    }
+
+    public Instant nextAttemptAt(Instant now, int attempt, String eventType) {
+        return now.plus(delay(attempt, eventType));
+    }
+
+    private long applyJitter(long delayMs) {
+        if (delayMs <= 0) return 0;
+        return switch (jitter) {
+            case NONE -> delayMs;
+            case FULL -> ThreadLocalRandom.current().nextLong(delayMs + 1);
+            case EQUAL -> delayMs / 2 + ThreadLocalRandom.current().nextLong(delayMs - delayMs / 2 + 1);
+        };
+    }
+
+    /**
+     * Parses per-event-type caps written as "OrderCreated=30000,OrderCancelled=5000" (milliseconds).
+     * Blank input means no overrides.
+     */
+    public static Map<String, Duration> parseCaps(String spec) {
+        Map<String, Duration> caps = new HashMap<>();
+        if (spec == null || spec.isBlank()) return caps;
+
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) continue;
+            int eq = trimmed.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Invalid retry cap (expected type=millis): " + trimmed);
+            }
+            long millis;
+            try {
+                millis = Long.parseLong(trimmed.substring(eq + 1).trim());
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid retry cap (expected type=millis): " + trimmed, ex);
+            }
+            if (millis < 0) {
+                throw new IllegalArgumentException("Invalid retry cap (negative millis): " + trimmed);
+            }
+            caps.put(trimmed.substring(0, eq).trim(), Duration.ofMillis(millis));
+        }
+        return caps;
+    }
+}
@@ -1,17 +1,23 @@
 package com.orderplatform.core.application.usecase;
 
+import com.orderplatform.core.application.model.CreatedOrder;
+import com.orderplatform.core.application.port.OrderIdempotencyRepository;
 import com.orderplatform.core.application.port.OrderRepository;
 import com.orderplatform.core.domain.order.Order;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 public class CreateOrderUseCase {
 
     private final OrderRepository orderRepository;
+    private final OrderIdempotencyRepository idempotencyRepository;
 
-    public CreateOrderUseCase(OrderRepository orderRepository) {
+    public CreateOrderUseCase(OrderRepository orderRepository,
+                              OrderIdempotencyRepository idempotencyRepository) {
         this.orderRepository = orderRepository;
+        this.idempotencyRepository = idempotencyRepository;
     }
 
     public UUID execute(Instant now) {
@@ -20,4 +26,17 @@ public class CreateOrderUseCase {
         orderRepository.save(order);
         return orderId;
     }
+
+    /**
+     * Must run in the caller's transaction: the key claim and the order commit (or roll back) together.
+     */
+    public CreatedOrder execute(Instant now, String idempotencyKey) {
+        UUID orderId = UUID.randomUUID();
+        Optional<UUID> owner = idempotencyRepository.claim(idempotencyKey, orderId, now);
+        if (owner.isPresent()) {
+            return new CreatedOrder(owner.get(), true);
+        }
+        orderRepository.save(Order.newPending(orderId, now));
+        return new CreatedOrder(orderId, false);
+    }
 }
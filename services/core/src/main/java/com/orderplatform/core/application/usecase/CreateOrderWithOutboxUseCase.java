@@ -0,0 +1,63 @@
+package com.orderplatform.core.application.usecase;
+
+import com.orderplatform.core.application.model.CreatedOrder;
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.port.OrderOutboxWriter;
+import com.orderplatform.core.domain.order.Order;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Creates an order and its OrderCreated outbox event in one atomic write (no after-commit publish step).
+ */
+public class CreateOrderWithOutboxUseCase {
+
+    private final OrderOutboxWriter writer;
+
+    public CreateOrderWithOutboxUseCase(OrderOutboxWriter writer) {
+        this.writer = writer;
+    }
+
+    public UUID execute(Instant now, String correlationId) {
+        UUID orderId = UUID.randomUUID();
+        Order order = Order.newPending(orderId, now);
+        writer.insertWithEvent(order, OutboxEvent.orderCreated(orderId, correlationId, now));
+        return orderId;
+    }
+
+    /**
+     * Idempotent variant: the key is written with the order and its event, so a retried request gets
+     * the original order back instead of a duplicate.
+     */
+    public CreatedOrder execute(Instant now, String correlationId, String idempotencyKey) {
+        UUID orderId = UUID.randomUUID();
+        Order order = Order.newPending(orderId, now);
+        Optional<UUID> owner = writer.insertWithEvent(
+                idempotencyKey, order, OutboxEvent.orderCreated(orderId, correlationId, now));
+        return owner
+                .map(existing -> new CreatedOrder(existing, true))
+                .orElseGet(() -> new CreatedOrder(orderId, false));
+    }
+
+    /**
+     * Creates count orders and their events in one atomic write. Callers split large intakes into chunks,
+     * so each chunk is one statement and one commit.
+     */
+    public List<UUID> executeBatch(int count, Instant now, String correlationId) {
+        List<Order> orders = new ArrayList<>(count);
+        List<OutboxEvent> events = new ArrayList<>(count);
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID orderId = UUID.randomUUID();
+            orders.add(Order.newPending(orderId, now));
+            events.add(OutboxEvent.orderCreated(orderId, correlationId, now));
+            ids.add(orderId);
+        }
+        writer.insertAllWithEvents(orders, events);
+        return ids;
+    }
+}
@@ -3,9 +3,13 @@ package com.orderplatform.core.application.usecase;
 import com.orderplatform.core.application.port.OrderDlqRepository;
 import com.orderplatform.core.application.port.OrderProcessor;
 import com.orderplatform.core.application.port.OrderRepository;
+import com.orderplatform.core.application.port.ProcessOrderInstrumentation;
+import com.orderplatform.core.application.port.ProcessOrderInstrumentation.Stage;
+import com.orderplatform.core.domain.order.Order;
 import com.orderplatform.core.domain.order.OrderStatus;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 public class ProcessOrderUseCase {
@@ -13,62 +17,105 @@ public class ProcessOrderUseCase {
     public enum Outcome {
         PROCESSED,
         RETRY,
-        FAILED
+        FAILED,
+        // nothing to do: the order was completed by an earlier delivery of the same event
+        ALREADY_PROCESSED,
+        // nothing done: the order is FAILED, or another delivery holds it (PROCESSING); this call changed nothing
+        SKIPPED
     }
 
     private final OrderRepository orderRepository;
     private final OrderDlqRepository dlqRepository;
     private final OrderProcessor processor;
+    private final ProcessOrderInstrumentation instrumentation;
+    private final boolean instrumented;
 
     public ProcessOrderUseCase(OrderRepository orderRepository,
                                OrderDlqRepository dlqRepository,
                                OrderProcessor processor) {
+        this(orderRepository, dlqRepository, processor, ProcessOrderInstrumentation.NOOP);
+    }
+
+    public ProcessOrderUseCase(OrderRepository orderRepository,
+                               OrderDlqRepository dlqRepository,
+                               OrderProcessor processor,
+                               ProcessOrderInstrumentation instrumentation) {
         this.orderRepository = orderRepository;
         this.dlqRepository = dlqRepository;
         this.processor = processor;
+        this.instrumentation = instrumentation;
+        this.instrumented = instrumentation.enabled();
     }
 
+    /**
+     * Each transition is a conditional UPDATE (compare-and-set on status), so two workers racing on the
+     * same order cannot both start it, and no order row has to be loaded before it is changed.
+     */
     public Outcome execute(UUID orderId, Instant now, int maxRetries) {
-        var order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalStateException("Order not found: " + orderId));
+        long t = clock();
+
+        // PENDING -> PROCESSING
+        boolean started = orderRepository.markProcessing(orderId, now);
+        t = lap(Stage.MARK_PROCESSING, started, t);
+        if (!started) {
+            // only the rare miss pays for a read, to tell a missing order from one in another state
+            Optional<Order> existing = orderRepository.findById(orderId);
+            lap(Stage.LOOKUP, existing.isPresent(), t);
+            Order order = existing.orElseThrow(() -> new IllegalStateException("Order not found: " + orderId));
+            return order.getStatus() == OrderStatus.PROCESSED ? Outcome.ALREADY_PROCESSED : Outcome.SKIPPED;
+        }
 
+        // stage still running when an exception escapes it
+        Stage open = Stage.PROCESS;
         try {
-            // PENDING -> PROCESSING
-            order.markProcessing(now);
-            orderRepository.save(order);
-
-
             processor.process(orderId);
+            t = lap(Stage.PROCESS, true, t);
+            open = Stage.MARK_PROCESSED;
 
             // PROCESSING -> PROCESSED
-            order.markProcessed(Instant.now());
-            orderRepository.save(order);
-
+            boolean processed = orderRepository.markProcessed(orderId, Instant.now());
+            t = lap(Stage.MARK_PROCESSED, processed, t);
+            open = null;
+            if (!processed) {
+                throw new IllegalStateException("Order left PROCESSING while being processed: " + orderId);
+            }
             return Outcome.PROCESSED;
 
         } catch (Exception ex) {
+            if (open != null) t = lap(open, false, t);
+
             String reason = (ex.getMessage() == null || ex.getMessage().isBlank())
                     ? "processing error"
                     : ex.getMessage();
 
-            if (order.getStatus() != OrderStatus.PROCESSING) {
-                // Si no llegó a PROCESSING, no hacemos transición de fallo
-                return Outcome.FAILED;
+            // PROCESSING -> PENDING (retry) or FAILED (retries exhausted)
+            Optional<Order> failed = orderRepository.markFailure(orderId, reason, maxRetries, Instant.now());
+            t = lap(Stage.MARK_FAILURE, failed.isPresent(), t);
+            if (failed.isEmpty()) {
+                // the order left PROCESSING under us (stale lock released, another delivery owns it now)
+                return Outcome.SKIPPED;
             }
 
-            boolean willExceedRetries = (order.getRetryCount() + 1) >= maxRetries;
-
-            if (!willExceedRetries) {
-                order.markRetryableFailure(reason, Instant.now());
-                orderRepository.save(order);
+            Order order = failed.get();
+            if (order.getStatus() == OrderStatus.PENDING) {
                 return Outcome.RETRY;
-            } else {
-                order.markFailed(reason, Instant.now());
-                orderRepository.save(order);
-
-                dlqRepository.save(orderId, reason, order.getRetryCount());
-                return Outcome.FAILED;
             }
+
+            dlqRepository.save(orderId, reason, order.getRetryCount());
+            lap(Stage.DLQ_WRITE, true, t);
+            return Outcome.FAILED;
         }
     }
+
+    private long clock() {
+        return instrumented ? System.nanoTime() : 0L;
+    }
+
+    // records the stage that started at `since` and returns the start of the next one
+    private long lap(Stage stage, boolean ok, long since) {
+        if (!instrumented) return 0L;
+        long now = System.nanoTime();
+        instrumentation.stage(stage, ok, now - since);
+        return now;
+    }
 }
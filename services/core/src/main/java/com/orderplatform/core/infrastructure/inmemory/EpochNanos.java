@@ -0,0 +1,20 @@
+package com.orderplatform.core.infrastructure.inmemory;
+
+import java.time.Instant;
+
+// Timestamps are kept as epoch nanoseconds (one long instead of an Instant per field); fits until 2262.
+final class EpochNanos {
+
+    static final long NONE = Long.MIN_VALUE;
+
+    private EpochNanos() {
+    }
+
+    static long of(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    static Instant toInstant(long nanos) {
+        return Instant.ofEpochSecond(0, nanos);
+    }
+}
@@ -0,0 +1,49 @@
+package com.orderplatform.core.infrastructure.inmemory;
+
+import com.orderplatform.core.application.model.OrderDlqEntry;
+import com.orderplatform.core.application.port.OrderDlqRepository;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DLQ entries by order id. The DLQ is a cold path (written once per exhausted order, read by operators),
+ * so listings simply sort a snapshot.
+ */
+public class InMemoryOrderDlqRepository implements OrderDlqRepository {
+
+    private final ConcurrentHashMap<UUID, OrderDlqEntry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(UUID orderId, String reason, int retryCount) {
+        entries.put(orderId, new OrderDlqEntry(orderId, reason, retryCount, Instant.now()));
+    }
+
+    @Override
+    public List<OrderDlqEntry> findAll() {
+        return List.copyOf(entries.values());
+    }
+
+    @Override
+    public List<OrderDlqEntry> findLatest(int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, 200)); // same cap as the JPA adapter
+        return entries.values().stream()
+                .sorted(Comparator.comparing(OrderDlqEntry::failedAt).reversed())
+                .limit(safeLimit)
+                .toList();
+    }
+
+    @Override
+    public Optional<OrderDlqEntry> findByOrderId(UUID orderId) {
+        return Optional.ofNullable(entries.get(orderId));
+    }
+
+    @Override
+    public void deleteByOrderId(UUID orderId) {
+        entries.remove(orderId);
+    }
+}
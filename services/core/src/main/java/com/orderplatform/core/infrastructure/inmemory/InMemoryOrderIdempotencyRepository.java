@@ -0,0 +1,19 @@
+package com.orderplatform.core.infrastructure.inmemory;
+
+import com.orderplatform.core.application.port.OrderIdempotencyRepository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Idempotency-Key -> order id. Keys are never expired: the map lives as long as the process. */
+public class InMemoryOrderIdempotencyRepository implements OrderIdempotencyRepository {
+
+    private final ConcurrentHashMap<String, UUID> owners = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<UUID> claim(String key, UUID orderId, Instant now) {
+        return Optional.ofNullable(owners.putIfAbsent(key, orderId));
+    }
+}
@@ -0,0 +1,53 @@
+package com.orderplatform.core.infrastructure.inmemory;
+
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.port.OrderOutboxWriter;
+import com.orderplatform.core.domain.order.Order;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Order + outbox event over the in-memory repositories. The order is stored before its event is enqueued,
+ * so a consumer that claims the event always finds the order; nothing can fail in between, which is all
+ * the atomicity the in-memory mode needs.
+ */
+public class InMemoryOrderOutboxWriter implements OrderOutboxWriter {
+
+    private final InMemoryOrderRepository orders;
+    private final InMemoryOutboxRepository outbox;
+    private final InMemoryOrderIdempotencyRepository idempotencyKeys;
+
+    public InMemoryOrderOutboxWriter(InMemoryOrderRepository orders,
+                                     InMemoryOutboxRepository outbox,
+                                     InMemoryOrderIdempotencyRepository idempotencyKeys) {
+        this.orders = orders;
+        this.outbox = outbox;
+        this.idempotencyKeys = idempotencyKeys;
+    }
+
+    @Override
+    public void insertWithEvent(Order order, OutboxEvent event) {
+        orders.save(order);
+        outbox.enqueue(event);
+    }
+
+    @Override
+    public Optional<UUID> insertWithEvent(String idempotencyKey, Order order, OutboxEvent event) {
+        Optional<UUID> owner = idempotencyKeys.claim(idempotencyKey, order.getId(), order.getCreatedAt());
+        if (owner.isPresent()) {
+            return owner;
+        }
+        insertWithEvent(order, event);
+        return Optional.empty();
+    }
+
+    @Override
+    public void insertAllWithEvents(List<Order> orders, List<OutboxEvent> events) {
+        for (Order order : orders) {
+            this.orders.save(order);
+        }
+        outbox.enqueueAll(events);
+    }
+}
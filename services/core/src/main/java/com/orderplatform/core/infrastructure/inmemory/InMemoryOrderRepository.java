@@ -0,0 +1,111 @@
+package com.orderplatform.core.infrastructure.inmemory;
+
+import com.orderplatform.core.application.port.OrderRepository;
+import com.orderplatform.core.domain.order.Order;
+import com.orderplatform.core.domain.order.OrderStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Orders in a ConcurrentHashMap, one mutable row per order (primitive fields, no Order kept).
+ *
+ * Transitions follow the JDBC adapter's conditional UPDATEs: each one checks and changes the row under
+ * the row's monitor, so two workers racing on the same order cannot both start it. Callers always get
+ * a fresh Order copy. Not transactional: a write is visible as soon as the method returns.
+ */
+public class InMemoryOrderRepository implements OrderRepository {
+
+    private final ConcurrentHashMap<UUID, Row> rows = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(Order order) {
+        rows.put(order.getId(), new Row(order));
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        Row row = rows.get(id);
+        return row == null ? Optional.empty() : Optional.of(row.toOrder(id));
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        List<Order> found = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Row row = rows.get(id);
+            if (row != null) found.add(row.toOrder(id));
+        }
+        return found;
+    }
+
+    @Override
+    public boolean markProcessing(UUID id, Instant now) {
+        Row row = rows.get(id);
+        if (row == null) return false;
+        synchronized (row) {
+            if (row.status != OrderStatus.PENDING) return false;
+            row.status = OrderStatus.PROCESSING;
+            row.failureReason = null;
+            row.updatedAt = EpochNanos.of(now);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean markProcessed(UUID id, Instant now) {
+        Row row = rows.get(id);
+        if (row == null) return false;
+        synchronized (row) {
+            if (row.status != OrderStatus.PROCESSING) return false;
+            row.status = OrderStatus.PROCESSED;
+            row.updatedAt = EpochNanos.of(now);
+            return true;
+        }
+    }
+
+    @Override
+    public Optional<Order> markFailure(UUID id, String reason, int maxRetries, Instant now) {
+        Row row = rows.get(id);
+        if (row == null) return Optional.empty();
+        synchronized (row) {
+            if (row.status != OrderStatus.PROCESSING) return Optional.empty();
+            row.retryCount += 1;
+            row.status = row.retryCount >= maxRetries ? OrderStatus.FAILED : OrderStatus.PENDING;
+            row.failureReason = (reason == null || reason.isBlank()) ? "unknown" : reason;
+            row.updatedAt = EpochNanos.of(now);
+            return Optional.of(row.toOrder(id));
+        }
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    private static final class Row {
+
+        private OrderStatus status;
+        private final long createdAt;
+        private long updatedAt;
+        private int retryCount;
+        private String failureReason;
+
+        private Row(Order order) {
+            this.status = order.getStatus();
+            this.createdAt = EpochNanos.of(order.getCreatedAt());
+            this.updatedAt = EpochNanos.of(order.getUpdatedAt());
+            this.retryCount = order.getRetryCount();
+            this.failureReason = order.getFailureReason();
+        }
+
+        private synchronized Order toOrder(UUID id) {
+            return Order.restore(id, status, EpochNanos.toInstant(createdAt), EpochNanos.toInstant(updatedAt),
+                    retryCount, failureReason);
+        }
+    }
+}
@@ -0,0 +1,463 @@
+package com.orderplatform.core.infrastructure.inmemory;
+
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.model.OutboxReschedule;
+import com.orderplatform.core.application.model.OutboxStatus;
+import com.orderplatform.core.application.port.OutboxRepository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Outbox with the claim semantics of the JDBC adapter:
+ * - claimReady takes PENDING events with nextAttemptAt <= now, oldest createdAt first, and locks them
+ *   (PROCESSING, lockedAt, lockedBy) so no other claimer gets them;
+ * - reschedule puts an event back to PENDING with attempts + 1 and a new nextAttemptAt;
+ * - releaseStaleLocks hands events locked before olderThan back to PENDING.
+ *
+ * Live events sit in one of three places: ready (due; one heap per partition, by createdAt), delayed (not
+ * due yet, by nextAttemptAt; promoted when due) or locked. A claim merges the heads of the ready heaps of
+ * the partitions it may take (all of them when unpartitioned), so a batch costs O(partitions + batch log n)
+ * and never touches events of other partitions. PROCESSED and FAILED events are dropped (only counted):
+ * nothing reads them back.
+ *
+ * One lock guards the whole outbox; every call is short and batch calls take it once. awaitWork lets an
+ * in-process consumer sleep until an event is enqueued or a delayed one becomes due.
+ *
+ * Partitions are (hashCode(aggregateId) & MAX) % 64: same property as the database's partition_key (all
+ * events of an order in one partition), not the same numbers.
+ */
+public class InMemoryOutboxRepository implements OutboxRepository {
+
+    public static final int PARTITIONS = 64;
+
+    private static final byte NOT_QUEUED = 0;
+    private static final byte READY = 1;
+    private static final byte DELAYED = 2;
+
+    private static final long OLDEST_REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+
+    private static final Comparator<Entry> READY_ORDER =
+            Comparator.<Entry>comparingLong(e -> e.createdAt).thenComparingLong(e -> e.seq);
+
+    private final HashMap<UUID, Entry> live = new HashMap<>(); // PENDING + PROCESSING
+    private final PriorityQueue<Entry>[] ready = readyHeaps();
+    private int readyCount;
+    private final PriorityQueue<Entry> delayed = new PriorityQueue<>(
+            Comparator.<Entry>comparingLong(e -> e.nextAttemptAt).thenComparingLong(e -> e.seq));
+    private final HashMap<UUID, Entry> locked = new HashMap<>();
+    private long seq;
+
+    // written under the lock, read without it (gauges, admission control)
+    private volatile long pending;
+    private volatile long processing;
+    private volatile long processedTotal;
+    private volatile long failedTotal;
+
+    private volatile long oldestCreatedAt = EpochNanos.NONE;
+    private volatile long oldestComputedAtNanos = System.nanoTime() - OLDEST_REFRESH_NANOS;
+
+    @Override
+    public void enqueue(OutboxEvent event) {
+        lock.lock();
+        try {
+            add(event);
+            workAvailable.signal();
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** enqueue for many events under one lock acquisition. */
+    public void enqueueAll(Collection<OutboxEvent> events) {
+        lock.lock();
+        try {
+            for (OutboxEvent event : events) {
+                add(event);
+            }
+            workAvailable.signalAll();
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<OutboxEvent> claimReady(int limit, Instant now, String lockedBy) {
+        return claim(limit, now, lockedBy, null);
+    }
+
+    @Override
+    public List<OutboxEvent> claimReady(int limit, Instant now, String lockedBy, Collection<Integer> partitions) {
+        if (partitions.isEmpty()) return List.of();
+        boolean[] owned = new boolean[PARTITIONS];
+        for (int p : partitions) {
+            if (p >= 0 && p < PARTITIONS) owned[p] = true;
+        }
+        return claim(limit, now, lockedBy, owned);
+    }
+
+    // owned == null: every partition
+    private List<OutboxEvent> claim(int limit, Instant now, String lockedBy, boolean[] owned) {
+        long nowNanos = EpochNanos.of(now);
+        List<OutboxEvent> claimed = new ArrayList<>(Math.min(limit, 1024));
+
+        lock.lock();
+        try {
+            promoteDue(nowNanos);
+            if (readyCount == 0 || limit <= 0) return claimed;
+
+            // oldest head first across the claimable partitions; a partition goes back in while it has events
+            PriorityQueue<PriorityQueue<Entry>> heads = new PriorityQueue<>(
+                    (a, b) -> READY_ORDER.compare(a.peek(), b.peek()));
+            for (int p = 0; p < PARTITIONS; p++) {
+                if ((owned == null || owned[p]) && !ready[p].isEmpty()) heads.add(ready[p]);
+            }
+            while (claimed.size() < limit) {
+                PriorityQueue<Entry> partition = heads.poll();
+                if (partition == null) break;
+                Entry e = partition.poll();
+                if (!partition.isEmpty()) heads.add(partition);
+
+                readyCount--;
+                e.queue = NOT_QUEUED;
+                lockEntry(e, nowNanos, lockedBy);
+                claimed.add(e.toEvent());
+            }
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+        return claimed;
+    }
+
+    @Override
+    public void markProcessing(UUID eventId, Instant lockedAt, String lockedBy) {
+        lock.lock();
+        try {
+            Entry e = live.get(eventId);
+            if (e == null) return;
+            dequeue(e);
+            lockEntry(e, EpochNanos.of(lockedAt), lockedBy);
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void markProcessed(UUID eventId, Instant processedAt) {
+        lock.lock();
+        try {
+            if (remove(eventId)) processedTotal++;
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void markProcessed(Collection<UUID> eventIds, Instant processedAt) {
+        if (eventIds.isEmpty()) return;
+        lock.lock();
+        try {
+            long n = 0;
+            for (UUID id : eventIds) {
+                if (remove(id)) n++;
+            }
+            processedTotal += n;
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void reschedule(UUID eventId, Instant nextAttemptAt, String lastError) {
+        lock.lock();
+        try {
+            Entry e = live.get(eventId);
+            if (e == null) return;
+            requeue(e, EpochNanos.of(nextAttemptAt), lastError);
+            workAvailable.signal();
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void reschedule(Collection<OutboxReschedule> reschedules) {
+        if (reschedules.isEmpty()) return;
+        lock.lock();
+        try {
+            for (OutboxReschedule r : reschedules) {
+                Entry e = live.get(r.eventId());
+                if (e != null) requeue(e, EpochNanos.of(r.nextAttemptAt()), r.lastError());
+            }
+            workAvailable.signalAll();
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void markFailed(UUID eventId, Instant failedAt, String lastError) {
+        lock.lock();
+        try {
+            if (remove(eventId)) failedTotal++;
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void markFailed(Collection<UUID> eventIds, Instant failedAt, String lastError) {
+        if (eventIds.isEmpty()) return;
+        lock.lock();
+        try {
+            long n = 0;
+            for (UUID id : eventIds) {
+                if (remove(id)) n++;
+            }
+            failedTotal += n;
+            updateCounts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int releaseStaleLocks(Instant olderThan) {
+        long threshold = EpochNanos.of(olderThan);
+        int released = 0;
+        lock.lock();
+        try {
+            Iterator<Entry> it = locked.values().iterator();
+            while (it.hasNext()) {
+                Entry e = it.next();
+                if (e.lockedAt < threshold) {
+                    it.remove();
+                    unlockEntry(e);
+                    e.status = OutboxStatus.PENDING;
+                    e.queue = DELAYED; // promoted by the next claim; nextAttemptAt is normally in the past
+                    delayed.add(e);
+                    released++;
+                }
+            }
+            if (released > 0) {
+                workAvailable.signalAll();
+                updateCounts();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return released;
+    }
+
+    /**
+     * Waits until an event is claimable (or becomes due), at most maxWait. True if there is work.
+     * Wake-ups are hints: a concurrent claimer may still take the work first.
+     */
+    public boolean awaitWork(long maxWait, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(maxWait);
+        lock.lock();
+        try {
+            while (true) {
+                if (readyCount > 0) return true;
+                long untilDue = Long.MAX_VALUE;
+                Entry next = delayed.peek();
+                if (next != null) {
+                    untilDue = next.nextAttemptAt - EpochNanos.of(Instant.now());
+                    if (untilDue <= 0) return true;
+                }
+                if (remaining <= 0) return false;
+                long slept = Math.min(remaining, untilDue);
+                remaining -= slept - workAvailable.awaitNanos(slept);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** PENDING + PROCESSING, like the backlog gauge of the JDBC outbox. */
+    public long backlog() {
+        return pending + processing;
+    }
+
+    public long processing() {
+        return processing;
+    }
+
+    public long processedTotal() {
+        return processedTotal;
+    }
+
+    public long failedTotal() {
+        return failedTotal;
+    }
+
+    /**
+     * createdAt of the oldest PENDING or PROCESSING event, null when there is none. Recomputed (a scan of the
+     * delayed and locked events) at most every 100 ms; admission control reads it on every request.
+     */
+    public Instant oldestLiveCreatedAt() {
+        if (System.nanoTime() - oldestComputedAtNanos >= OLDEST_REFRESH_NANOS) {
+            lock.lock();
+            try {
+                long oldest = Long.MAX_VALUE;
+                for (PriorityQueue<Entry> partition : ready) {
+                    Entry head = partition.peek();
+                    if (head != null) oldest = Math.min(oldest, head.createdAt);
+                }
+                for (Entry e : delayed) oldest = Math.min(oldest, e.createdAt);
+                for (Entry e : locked.values()) oldest = Math.min(oldest, e.createdAt);
+                oldestCreatedAt = oldest == Long.MAX_VALUE ? EpochNanos.NONE : oldest;
+                oldestComputedAtNanos = System.nanoTime();
+            } finally {
+                lock.unlock();
+            }
+        }
+        long oldest = oldestCreatedAt;
+        return oldest == EpochNanos.NONE ? null : EpochNanos.toInstant(oldest);
+    }
+
+    // ---- under the lock ----
+
+    private void add(OutboxEvent event) {
+        Entry e = new Entry(event, seq++);
+        if (live.putIfAbsent(e.id, e) != null) {
+            return; // same id enqueued twice: the database would reject it, the first one stays
+        }
+        if (e.nextAttemptAt <= e.createdAt) {
+            addReady(e);
+        } else {
+            e.queue = DELAYED;
+            delayed.add(e);
+        }
+    }
+
+    private void promoteDue(long nowNanos) {
+        Entry next;
+        while ((next = delayed.peek()) != null && next.nextAttemptAt <= nowNanos) {
+            delayed.poll();
+            addReady(next);
+        }
+    }
+
+    private void addReady(Entry e) {
+        e.queue = READY;
+        ready[e.partition].add(e);
+        readyCount++;
+    }
+
+    private void lockEntry(Entry e, long lockedAt, String lockedBy) {
+        e.status = OutboxStatus.PROCESSING;
+        e.lockedAt = lockedAt;
+        e.lockedBy = lockedBy;
+        locked.put(e.id, e);
+    }
+
+    private static void unlockEntry(Entry e) {
+        e.lockedAt = EpochNanos.NONE;
+        e.lockedBy = null;
+    }
+
+    private void requeue(Entry e, long nextAttemptAt, String lastError) {
+        dequeue(e);
+        locked.remove(e.id);
+        unlockEntry(e);
+        e.status = OutboxStatus.PENDING;
+        e.attempts++;
+        e.nextAttemptAt = nextAttemptAt;
+        e.lastError = lastError;
+        e.queue = DELAYED;
+        delayed.add(e);
+    }
+
+    private boolean remove(UUID eventId) {
+        Entry e = live.remove(eventId);
+        if (e == null) return false;
+        dequeue(e);
+        locked.remove(eventId);
+        return true;
+    }
+
+    // only for transitions of events that are not locked: O(n), off the claim path
+    private void dequeue(Entry e) {
+        if (e.queue == READY) {
+            ready[e.partition].remove(e);
+            readyCount--;
+        } else if (e.queue == DELAYED) {
+            delayed.remove(e);
+        }
+        e.queue = NOT_QUEUED;
+    }
+
+    private void updateCounts() {
+        pending = readyCount + delayed.size();
+        processing = locked.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PriorityQueue<Entry>[] readyHeaps() {
+        PriorityQueue<Entry>[] heaps = new PriorityQueue[PARTITIONS];
+        for (int p = 0; p < PARTITIONS; p++) {
+            heaps[p] = new PriorityQueue<>(READY_ORDER);
+        }
+        return heaps;
+    }
+
+    private static final class Entry {
+
+        private final UUID id;
+        private final UUID aggregateId;
+        private final String eventType;
+        private final String payload;
+        private final long createdAt;
+        private final long seq;
+        private final int partition;
+
+        private OutboxStatus status;
+        private int attempts;
+        private long nextAttemptAt;
+        private long lockedAt = EpochNanos.NONE;
+        private String lockedBy;
+        private String lastError;
+        private byte queue = NOT_QUEUED;
+
+        private Entry(OutboxEvent event, long seq) {
+            this.id = event.id();
+            this.aggregateId = event.aggregateId();
+            this.eventType = event.eventType();
+            this.payload = event.payload();
+            this.createdAt = EpochNanos.of(event.createdAt());
+            this.seq = seq;
+            this.partition = (aggregateId.hashCode() & Integer.MAX_VALUE) % PARTITIONS;
+            this.status = OutboxStatus.PENDING;
+            this.attempts = event.attempts();
+            this.nextAttemptAt = EpochNanos.of(event.nextAttemptAt());
+        }
+
+        private OutboxEvent toEvent() {
+            return new OutboxEvent(id, aggregateId, eventType, payload, status, attempts,
+                    EpochNanos.toInstant(nextAttemptAt), EpochNanos.toInstant(createdAt));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.orderplatform.core.application.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxEventTest {
+
+    @Test
+    void correlationIdIsReadBackFromTheOrderCreatedPayload() {
+        OutboxEvent event = OutboxEvent.orderCreated(UUID.randomUUID(), "req-42", Instant.now());
+
+        assertThat(OutboxEvent.correlationIdOf(event.payload())).isEqualTo("req-42");
+    }
+
+    @Test
+    void absentCorrelationIdIsNull() {
+        assertThat(OutboxEvent.correlationIdOf(null)).isNull();
+        assertThat(OutboxEvent.correlationIdOf("")).isNull();
+        assertThat(OutboxEvent.correlationIdOf("{\"orderId\":\"" + UUID.randomUUID() + "\"}")).isNull();
+    }
+
+    @Test
+    void jsonNullCorrelationIdIsNull() {
+        OutboxEvent event = OutboxEvent.orderCreated(UUID.randomUUID(), null, Instant.now());
+
+        assertThat(event.payload()).contains("\"correlationId\":null");
+        assertThat(OutboxEvent.correlationIdOf(event.payload())).isNull();
+    }
+
+    @Test
+    void emptyOrBlankCorrelationIdIsNull() {
+        assertThat(OutboxEvent.correlationIdOf("{\"correlationId\":\"\"}")).isNull();
+        assertThat(OutboxEvent.correlationIdOf("{\"correlationId\":\"   \"}")).isNull();
+    }
+
+    @Test
+    void whitespaceBeforeTheValueIsSkipped() {
+        assertThat(OutboxEvent.correlationIdOf("{\"orderId\":\"x\", \"correlationId\" : \t\"abc\"}")).isEqualTo("abc");
+    }
+
+    @Test
+    void truncatedPayloadIsNull() {
+        assertThat(OutboxEvent.correlationIdOf("{\"correlationId\"")).isNull();
+        assertThat(OutboxEvent.correlationIdOf("{\"correlationId\":")).isNull();
+        assertThat(OutboxEvent.correlationIdOf("{\"correlationId\":\"abc")).isNull();
+    }
+}
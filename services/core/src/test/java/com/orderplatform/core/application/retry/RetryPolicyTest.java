@@ -0,0 +1,108 @@
+package com.orderplatform.core.application.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTest {
+
+    private static RetryPolicy policy(RetryPolicy.Jitter jitter, Map<String, Duration> caps) {
+        return new RetryPolicy(Duration.ofMillis(100), Duration.ofMillis(5_000), 2.0, jitter, caps);
+    }
+
+    @Test
+    void delayGrowsExponentiallyUntilTheCap() {
+        RetryPolicy policy = policy(RetryPolicy.Jitter.NONE, Map.of());
+
+        assertThat(policy.delay(1)).isEqualTo(Duration.ofMillis(100));
+        assertThat(policy.delay(2)).isEqualTo(Duration.ofMillis(200));
+        assertThat(policy.delay(3)).isEqualTo(Duration.ofMillis(400));
+
+        Duration previous = Duration.ZERO;
+        for (int attempt = 1; attempt <= 64; attempt++) {
+            Duration delay = policy.delay(attempt);
+            assertThat(delay).isGreaterThanOrEqualTo(previous).isLessThanOrEqualTo(Duration.ofMillis(5_000));
+            previous = delay;
+        }
+        assertThat(policy.delay(64)).isEqualTo(Duration.ofMillis(5_000));
+    }
+
+    @Test
+    void attemptsBelowOneUseTheBaseDelay() {
+        RetryPolicy policy = policy(RetryPolicy.Jitter.NONE, Map.of());
+
+        assertThat(policy.delay(0)).isEqualTo(Duration.ofMillis(100));
+        assertThat(policy.delay(-3)).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void eventTypeCapOverridesTheDefaultCap() {
+        RetryPolicy policy = policy(RetryPolicy.Jitter.NONE, Map.of("OrderCreated", Duration.ofMillis(300)));
+
+        assertThat(policy.delay(10, "OrderCreated")).isEqualTo(Duration.ofMillis(300));
+        assertThat(policy.delay(10, "OrderCancelled")).isEqualTo(Duration.ofMillis(5_000));
+        assertThat(policy.delay(10, null)).isEqualTo(Duration.ofMillis(5_000));
+    }
+
+    @Test
+    void fullJitterStaysWithinZeroAndTheDelay() {
+        RetryPolicy policy = policy(RetryPolicy.Jitter.FULL, Map.of());
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(policy.delay(3).toMillis()).isBetween(0L, 400L);
+        }
+    }
+
+    @Test
+    void equalJitterStaysWithinHalfTheDelayAndTheDelay() {
+        RetryPolicy policy = policy(RetryPolicy.Jitter.EQUAL, Map.of());
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(policy.delay(3).toMillis()).isBetween(200L, 400L);
+            assertThat(policy.delay(64).toMillis()).isBetween(2_500L, 5_000L);
+        }
+    }
+
+    @Test
+    void nextAttemptAtAddsTheDelay() {
+        RetryPolicy policy = policy(RetryPolicy.Jitter.NONE, Map.of());
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        assertThat(policy.nextAttemptAt(now, 2, "OrderCreated")).isEqualTo(now.plusMillis(200));
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new RetryPolicy(Duration.ZERO, Duration.ofSeconds(1), 2.0, RetryPolicy.Jitter.NONE, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(Duration.ofSeconds(2), Duration.ofSeconds(1), 2.0, RetryPolicy.Jitter.NONE, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(Duration.ofSeconds(1), Duration.ofSeconds(2), 0.5, RetryPolicy.Jitter.NONE, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parsesCaps() {
+        assertThat(RetryPolicy.parseCaps(" OrderCreated = 30000 , ,OrderCancelled=5000 "))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        "OrderCreated", Duration.ofMillis(30_000),
+                        "OrderCancelled", Duration.ofMillis(5_000)));
+        assertThat(RetryPolicy.parseCaps(null)).isEmpty();
+        assertThat(RetryPolicy.parseCaps("  ")).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedCaps() {
+        for (String spec : new String[]{"OrderCreated", "=1000", "OrderCreated=", "OrderCreated=abc", "OrderCreated=-5"}) {
+            assertThatThrownBy(() -> RetryPolicy.parseCaps(spec))
+                    .as(spec)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid retry cap");
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.orderplatform.core.infrastructure.inmemory;
+
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.model.OutboxReschedule;
+import com.orderplatform.core.application.model.OutboxStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryOutboxRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final InMemoryOutboxRepository outbox = new InMemoryOutboxRepository();
+
+    private static OutboxEvent event(Instant createdAt) {
+        return OutboxEvent.pending(UUID.randomUUID(), "OrderCreated", "{}", createdAt);
+    }
+
+    private static OutboxEvent delayed(Instant createdAt, Instant nextAttemptAt) {
+        return new OutboxEvent(UUID.randomUUID(), UUID.randomUUID(), "OrderCreated", "{}",
+                OutboxStatus.PENDING, 0, nextAttemptAt, createdAt);
+    }
+
+    private static int partitionOf(UUID aggregateId) {
+        return (aggregateId.hashCode() & Integer.MAX_VALUE) % InMemoryOutboxRepository.PARTITIONS;
+    }
+
+    private static UUID aggregateIn(int partition) {
+        while (true) {
+            UUID id = UUID.randomUUID();
+            if (partitionOf(id) == partition) return id;
+        }
+    }
+
+    private static List<UUID> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::id).toList();
+    }
+
+    @Test
+    void claimTakesOldestCreatedAtFirstAndLocksWhatItTakes() {
+        OutboxEvent newest = event(T0.plusSeconds(2));
+        OutboxEvent oldest = event(T0);
+        OutboxEvent middle = event(T0.plusSeconds(1));
+        outbox.enqueue(newest);
+        outbox.enqueue(oldest);
+        outbox.enqueue(middle);
+
+        List<OutboxEvent> first = outbox.claimReady(2, T0.plusSeconds(10), "w1");
+        assertThat(ids(first)).containsExactly(oldest.id(), middle.id());
+        assertThat(first).allSatisfy(e -> assertThat(e.status()).isEqualTo(OutboxStatus.PROCESSING));
+
+        assertThat(ids(outbox.claimReady(10, T0.plusSeconds(10), "w2"))).containsExactly(newest.id());
+        assertThat(outbox.claimReady(10, T0.plusSeconds(10), "w3")).isEmpty();
+        assertThat(outbox.backlog()).isEqualTo(3);
+        assertThat(outbox.processing()).isEqualTo(3);
+
+        outbox.markProcessed(List.of(oldest.id(), middle.id()), T0.plusSeconds(11));
+        outbox.markFailed(newest.id(), T0.plusSeconds(11), "boom");
+        assertThat(outbox.backlog()).isZero();
+        assertThat(outbox.processedTotal()).isEqualTo(2);
+        assertThat(outbox.failedTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void delayedEventIsClaimableOnceDue() {
+        OutboxEvent later = delayed(T0, T0.plusSeconds(30));
+        OutboxEvent now = event(T0.plusSeconds(1));
+        outbox.enqueue(later);
+        outbox.enqueue(now);
+
+        assertThat(ids(outbox.claimReady(10, T0.plusSeconds(29), "w1"))).containsExactly(now.id());
+
+        // once promoted it competes by createdAt again
+        List<OutboxEvent> due = outbox.claimReady(10, T0.plusSeconds(30), "w1");
+        assertThat(ids(due)).containsExactly(later.id());
+        assertThat(outbox.oldestLiveCreatedAt()).isEqualTo(T0);
+    }
+
+    @Test
+    void rescheduleCountsTheAttemptAndWaitsForNextAttemptAt() {
+        OutboxEvent e = event(T0);
+        outbox.enqueue(e);
+        outbox.claimReady(1, T0, "w1");
+
+        outbox.reschedule(e.id(), T0.plusSeconds(5), "timeout");
+        assertThat(outbox.processing()).isZero();
+        assertThat(outbox.claimReady(1, T0.plusSeconds(4), "w1")).isEmpty();
+
+        OutboxEvent retried = outbox.claimReady(1, T0.plusSeconds(5), "w1").get(0);
+        assertThat(retried.id()).isEqualTo(e.id());
+        assertThat(retried.attempts()).isEqualTo(1);
+        assertThat(retried.nextAttemptAt()).isEqualTo(T0.plusSeconds(5));
+
+        outbox.reschedule(List.of(new OutboxReschedule(e.id(), T0.plusSeconds(10), "timeout")));
+        assertThat(outbox.claimReady(1, T0.plusSeconds(10), "w1").get(0).attempts()).isEqualTo(2);
+    }
+
+    @Test
+    void releaseStaleLocksOnlyHandsBackLocksOlderThanTheCutoff() {
+        OutboxEvent stale = event(T0);
+        OutboxEvent fresh = event(T0.plusSeconds(1));
+        outbox.enqueue(stale);
+        outbox.enqueue(fresh);
+        outbox.claimReady(1, T0, "dead-worker");
+        outbox.claimReady(1, T0.plusSeconds(60), "live-worker");
+
+        assertThat(outbox.releaseStaleLocks(T0.plusSeconds(30))).isEqualTo(1);
+        assertThat(outbox.processing()).isEqualTo(1);
+
+        OutboxEvent reclaimed = outbox.claimReady(10, T0.plusSeconds(61), "w2").get(0);
+        assertThat(reclaimed.id()).isEqualTo(stale.id());
+        assertThat(reclaimed.attempts()).isZero();
+        assertThat(outbox.releaseStaleLocks(T0.plusSeconds(30))).isZero();
+    }
+
+    @Test
+    void partitionedClaimOnlyTakesOwnedPartitionsOldestFirst() {
+        List<OutboxEvent> inThree = new ArrayList<>();
+        List<OutboxEvent> inSeven = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // interleaved createdAt across the two partitions, enqueued newest first
+            inThree.add(OutboxEvent.pending(aggregateIn(3), "OrderCreated", "{}", T0.plusSeconds(20 - 2 * i)));
+            inSeven.add(OutboxEvent.pending(aggregateIn(7), "OrderCreated", "{}", T0.plusSeconds(21 - 2 * i)));
+        }
+        outbox.enqueueAll(inSeven);
+        outbox.enqueueAll(inThree);
+
+        List<OutboxEvent> claimed = outbox.claimReady(3, T0.plusSeconds(60), "w1", List.of(3, 9));
+        assertThat(claimed).allSatisfy(e -> assertThat(partitionOf(e.aggregateId())).isEqualTo(3));
+        assertThat(claimed).extracting(OutboxEvent::createdAt)
+                .containsExactly(T0.plusSeconds(12), T0.plusSeconds(14), T0.plusSeconds(16));
+        assertThat(outbox.claimReady(10, T0.plusSeconds(60), "w1", List.of())).isEmpty();
+
+        // the rest, all partitions merged by createdAt
+        List<OutboxEvent> rest = outbox.claimReady(100, T0.plusSeconds(60), "w2");
+        assertThat(rest).extracting(OutboxEvent::createdAt).isSorted().hasSize(7);
+    }
+
+    @Test
+    void concurrentClaimersNeverShareAnEvent() throws Exception {
+        int events = 20_000;
+        List<OutboxEvent> batch = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            batch.add(event(T0.plusMillis(i)));
+        }
+        outbox.enqueueAll(batch);
+
+        int claimers = 8;
+        Set<UUID> claimed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(claimers);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int c = 0; c < claimers; c++) {
+                // half claim everything, half only the even or odd partitions
+                List<Integer> partitions = new ArrayList<>();
+                for (int p = c % 2; p < InMemoryOutboxRepository.PARTITIONS; p += 2) partitions.add(p);
+                boolean partitioned = c >= claimers / 2;
+                String worker = "w" + c;
+                tasks.add(pool.submit(() -> {
+                    start.await();
+                    Instant now = T0.plus(Duration.ofHours(1));
+                    while (true) {
+                        List<OutboxEvent> got = partitioned
+                                ? outbox.claimReady(50, now, worker, partitions)
+                                : outbox.claimReady(50, now, worker);
+                        if (got.isEmpty()) return null;
+                        for (OutboxEvent e : got) {
+                            if (!claimed.add(e.id())) duplicates.incrementAndGet();
+                        }
+                        outbox.markProcessed(ids(got), now);
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(duplicates.get()).isZero();
+        assertThat(claimed).hasSize(events);
+        assertThat(outbox.processedTotal()).isEqualTo(events);
+        assertThat(outbox.backlog()).isZero();
+    }
+}
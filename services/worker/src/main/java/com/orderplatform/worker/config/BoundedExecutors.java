@@ -0,0 +1,23 @@
+package com.orderplatform.worker.config;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Executors for the jobs' processing fan-out: one thread per task (virtual when the runtime supports it),
+ * at most {@code concurrency} tasks in flight; submitters block when the limit is reached.
+ */
+final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    static SimpleAsyncTaskExecutor create(String threadNamePrefix, int concurrency, long shutdownTimeoutMs) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        // Virtual threads need JDK 21+; on older runtimes we fall back to platform threads
+        executor.setVirtualThreads(Runtime.version().feature() >= 21);
+        executor.setConcurrencyLimit(Math.max(1, concurrency));
+        // close() waits for in-flight tasks before the context goes away
+        executor.setTaskTerminationTimeout(shutdownTimeoutMs);
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.orderplatform.worker.config;
+
+import com.orderplatform.common.observability.MicrometerProcessOrderInstrumentation;
+import com.orderplatform.common.observability.VirtualThreadPinningMonitor;
+import com.orderplatform.worker.infrastructure.observability.WorkerMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "worker.metrics.stage-timers.enabled", havingValue = "true", matchIfMissing = true)
+    public MicrometerProcessOrderInstrumentation micrometerProcessOrderInstrumentation(WorkerMetrics metrics) {
+        return new MicrometerProcessOrderInstrumentation(metrics::processStageTimer);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            WorkerMetrics metrics,
+            @Value("${worker.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs), metrics::recordVirtualThreadPinned);
+    }
+}
@@ -0,0 +1,22 @@
+package com.orderplatform.worker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+public class OutboxProcessingConfig {
+
+    /**
+     * Bounded executor used by the outbox processor in concurrent mode:
+     * at most {@code worker.outbox.processing.concurrency} events in flight.
+     */
+    @Bean(name = "outboxProcessingExecutor")
+    public SimpleAsyncTaskExecutor outboxProcessingExecutor(
+            @Value("${worker.outbox.processing.concurrency:8}") int concurrency,
+            @Value("${worker.outbox.processing.shutdown-timeout-ms:30000}") long shutdownTimeoutMs
+    ) {
+        return BoundedExecutors.create("outbox-proc-", concurrency, shutdownTimeoutMs);
+    }
+}
@@ -0,0 +1,22 @@
+package com.orderplatform.worker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+public class SqsConsumerConfig {
+
+    /**
+     * Bounded executor used by the SQS consumer in batch mode: at most
+     * {@code worker.sqs.batch.concurrency} messages of a received batch are processed at once.
+     */
+    @Bean(name = "sqsProcessingExecutor")
+    public SimpleAsyncTaskExecutor sqsProcessingExecutor(
+            @Value("${worker.sqs.batch.concurrency:10}") int concurrency,
+            @Value("${worker.sqs.batch.shutdown-timeout-ms:30000}") long shutdownTimeoutMs
+    ) {
+        return BoundedExecutors.create("sqs-proc-", concurrency, shutdownTimeoutMs);
+    }
+}
@@ -1,19 +1,27 @@
 package com.orderplatform.worker.config;
 
+import com.orderplatform.common.config.RetryPolicyConfig;
 import com.orderplatform.core.application.port.OrderDlqRepository;
 import com.orderplatform.core.application.port.OrderProcessor;
 import com.orderplatform.core.application.port.OrderRepository;
+import com.orderplatform.core.application.port.ProcessOrderInstrumentation;
 import com.orderplatform.core.application.usecase.ProcessOrderUseCase;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
 @Configuration
+@Import(RetryPolicyConfig.class)
 public class UseCaseConfig {
 
     @Bean
     public ProcessOrderUseCase processOrderUseCase(OrderRepository orderRepository,
                                                    OrderDlqRepository dlqRepository,
-                                                   OrderProcessor orderProcessor) {
-        return new ProcessOrderUseCase(orderRepository, dlqRepository, orderProcessor);
+                                                   OrderProcessor orderProcessor,
+                                                   ObjectProvider<ProcessOrderInstrumentation> instrumentation) {
+        return new ProcessOrderUseCase(orderRepository, dlqRepository, orderProcessor,
+                ProcessOrderInstrumentation.of(instrumentation.orderedStream().toList()));
     }
 }
+
@@ -0,0 +1,45 @@
+package com.orderplatform.worker.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * Identity of this worker instance, used as outbox locked_by and as the member id for partitioning.
+ *
+ * worker.id wins when set; otherwise hostname (the task/container id on ECS/Docker) plus a short
+ * random suffix, so two processes on the same host never share an id.
+ */
+@Component
+public class WorkerIdentity {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerIdentity.class);
+
+    private final String id;
+
+    public WorkerIdentity(@Value("${worker.id:}") String configuredId) {
+        this.id = (configuredId == null || configuredId.isBlank()) ? generate() : configuredId.trim();
+        log.info("Worker identity: {}", id);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    private static String generate() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception ex) {
+            host = "worker";
+        }
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        // locked_by / worker_id are VARCHAR(100)
+        String base = host.length() > 80 ? host.substring(0, 80) : host;
+        return base + "-" + suffix;
+    }
+}
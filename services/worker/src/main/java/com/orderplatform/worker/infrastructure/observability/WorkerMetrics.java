@@ -1,14 +1,25 @@
 package com.orderplatform.worker.infrastructure.observability;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 @Component
 public class WorkerMetrics {
 
     private final MeterRegistry registry;
+    private final String mode;
 
     private final Counter messagesReceivedTotal;
     private final Counter messagesProcessedTotal;
@@ -20,6 +31,11 @@ public class WorkerMetrics {
 
     private final Timer processingTimer;
 
+    // order latency by stage, tagged with worker.mode; SLO buckets so p99 can be alerted on per bucket
+    private final Timer queueWaitTimer;
+    private final Timer endToEndProcessedTimer;
+    private final Timer endToEndFailedTimer;
+
     private final Counter relayPublishedTotal;
     private final Counter relayFailedTotal;
 
@@ -29,8 +45,19 @@ public class WorkerMetrics {
     private final Counter sqsDeleteTotal;
     private final Counter sqsDeleteFailedTotal;
 
+    static final String DEFAULT_LATENCY_SLO = "25ms,50ms,100ms,250ms,500ms,1s,2500ms,5s,10s,30s,60s,300s";
+
     public WorkerMetrics(MeterRegistry registry) {
+        this(registry, "outbox-processor", DEFAULT_LATENCY_SLO);
+    }
+
+    @Autowired
+    public WorkerMetrics(MeterRegistry registry,
+                         @Value("${worker.mode:outbox-processor}") String mode,
+                         @Value("${worker.metrics.latency-slo:" + DEFAULT_LATENCY_SLO + "}") String latencySlo) {
         this.registry = registry;
+        this.mode = mode;
+        Duration[] slo = parseSlo(latencySlo);
 
         this.messagesReceivedTotal = Counter.builder("order_worker_messages_received_total")
                 .description("Total number of events/messages received by the worker")
@@ -55,9 +82,21 @@ public class WorkerMetrics {
 
         this.processingTimer = Timer.builder("order_worker_processing_seconds")
                 .description("Time spent processing a single message/event")
+                .tag("mode", mode)
                 .publishPercentiles(0.5, 0.95, 0.99)
+                .serviceLevelObjectives(slo)
                 .register(registry);
 
+        this.queueWaitTimer = Timer.builder("order_worker_queue_wait_seconds")
+                .description("Time an event waited to be picked up: outbox due time (created_at, or next_attempt_at "
+                        + "for retries) to claim, or SQS SentTimestamp to receive")
+                .tag("mode", mode)
+                .serviceLevelObjectives(slo)
+                .register(registry);
+
+        this.endToEndProcessedTimer = endToEndTimer(mode, "processed", slo);
+        this.endToEndFailedTimer = endToEndTimer(mode, "failed", slo);
+
         this.relayPublishedTotal = Counter.builder("order_worker_relay_published_total")
                 .description("Total number of outbox events relayed to SQS successfully")
                 .register(registry);
@@ -141,4 +180,87 @@ public class WorkerMetrics {
     public void recordProcessing(Runnable r) {
         processingTimer.record(r);
     }
-}
\ No newline at end of file
+
+    public <T> T timeProcessing(Supplier<T> s) {
+        return processingTimer.record(s);
+    }
+
+    // ---- Order latency ----
+
+    public void recordQueueWait(Instant enqueuedAt, Instant pickedUpAt) {
+        queueWaitTimer.record(nonNegative(enqueuedAt, pickedUpAt));
+    }
+
+    /** Order creation to PROCESSED / FAILED, recorded when the worker sets the terminal state. */
+    public void recordEndToEnd(boolean processed, Instant createdAt, Instant terminalAt) {
+        (processed ? endToEndProcessedTimer : endToEndFailedTimer).record(nonNegative(createdAt, terminalAt));
+    }
+
+    private Timer endToEndTimer(String mode, String outcome, Duration[] slo) {
+        return Timer.builder("order_worker_order_end_to_end_seconds")
+                .description("Order creation to terminal state (PROCESSED or FAILED), across queueing, retries and processing")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .serviceLevelObjectives(slo)
+                .register(registry);
+    }
+
+    // clocks of API, database and SQS are not ours: a small negative skew counts as zero
+    private static Duration nonNegative(Instant from, Instant to) {
+        Duration d = Duration.between(from, to);
+        return d.isNegative() ? Duration.ZERO : d;
+    }
+
+    private static Duration[] parseSlo(String csv) {
+        return Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(DurationStyle::detectAndParse)
+                .sorted()
+                .toArray(Duration[]::new);
+    }
+
+    // ---- ProcessOrderUseCase stages ----
+
+    public Timer processStageTimer(String stage, String result) {
+        return Timer.builder("order_worker_process_stage_seconds")
+                .description("Time spent in each stage of ProcessOrderUseCase (status updates, processor, DLQ write)")
+                .tag("mode", mode)
+                .tag("stage", stage)
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    // ---- Outbox claim ----
+
+    public void registerClaimBatchSize(String job, AtomicInteger batchSize) {
+        Gauge.builder("order_worker_outbox_claim_batch_size", batchSize, AtomicInteger::get)
+                .description("Current adaptive claim batch size used by the outbox job")
+                .tag("job", job)
+                .register(registry);
+    }
+
+    public void registerOwnedPartitions(Supplier<Number> ownedPartitions) {
+        Gauge.builder("order_worker_outbox_owned_partitions", ownedPartitions)
+                .description("Outbox partitions currently assigned to this worker (partitioned claiming)")
+                .register(registry);
+    }
+
+    // ---- Outbox archiver ----
+
+    public void incArchivePurged(long rows) {
+        if (rows > 0) registry.counter("order_worker_outbox_archive_rows_purged_total").increment(rows);
+    }
+
+    public void incArchivePartition(String action) {
+        registry.counter("order_worker_outbox_archive_partitions_total", "action", action).increment();
+    }
+
+    public void recordVirtualThreadPinned(Duration pinned) {
+        Timer.builder("order_worker_virtual_thread_pinned_seconds")
+                .description("Virtual threads pinned to their carrier thread (JFR jdk.VirtualThreadPinned), by duration")
+                .register(registry)
+                .record(pinned);
+    }
+}
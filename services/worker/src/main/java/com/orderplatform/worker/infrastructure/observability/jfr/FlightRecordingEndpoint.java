@@ -0,0 +1,189 @@
+package com.orderplatform.worker.infrastructure.observability.jfr;
+
+import com.orderplatform.worker.config.WorkerIdentity;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/jfr: one Flight Recorder recording at a time, on demand, always bounded in time and size.
+ *
+ * POST starts it (the JDK settings named by worker.jfr.recording.settings, which also cover this worker's
+ * events), optionally with {"durationSeconds": n} capped at max-duration-seconds. It stops by itself at the
+ * end of that duration, or on DELETE, and is then written to worker.jfr.recording.directory. GET shows the
+ * current or last recording. Writes are off unless management.endpoint.jfr.access is unrestricted.
+ *
+ * The directory keeps at most max-files recordings: the oldest are deleted when a new one starts. Files are
+ * named worker-jfr-<timestamp>-<worker id>, so retention also covers files left by earlier runs, whose
+ * generated worker id was different. Events that copy the process environment, system properties or command lines (datasource and
+ * AWS credentials) are disabled whatever the settings say, so none of that ends up in a file.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+
+    // environment, -D properties, JVM arguments and other processes' command lines may all carry secrets
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation",
+            "jdk.SystemProcess");
+
+    private static final String FILE_PREFIX = "worker-jfr-";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final String settings;
+    private final long defaultDurationSeconds;
+    private final long maxDurationSeconds;
+    private final long maxSizeBytes;
+    private final int maxFiles;
+    private final String workerId;
+
+    // guarded by this
+    private Recording recording;
+
+    public FlightRecordingEndpoint(WorkerIdentity identity,
+                                   @Value("${worker.jfr.recording.directory:${java.io.tmpdir}}") String directory,
+                                   @Value("${worker.jfr.recording.settings:profile}") String settings,
+                                   @Value("${worker.jfr.recording.default-duration-seconds:60}") long defaultDurationSeconds,
+                                   @Value("${worker.jfr.recording.max-duration-seconds:900}") long maxDurationSeconds,
+                                   @Value("${worker.jfr.recording.max-size-mb:256}") long maxSizeMb,
+                                   @Value("${worker.jfr.recording.max-files:3}") int maxFiles) {
+        this.directory = Path.of(directory);
+        this.settings = settings;
+        this.maxDurationSeconds = Math.max(1, maxDurationSeconds);
+        this.defaultDurationSeconds = Math.min(Math.max(1, defaultDurationSeconds), this.maxDurationSeconds);
+        this.maxSizeBytes = Math.max(1, maxSizeMb) * 1024 * 1024;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.workerId = identity.id().replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("name", recording.getName());
+        status.put("state", recording.getState().name());
+        status.put("startTime", recording.getStartTime());
+        status.put("stopTime", recording.getStopTime());
+        status.put("durationSeconds", recording.getDuration() == null ? null : recording.getDuration().toSeconds());
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("sizeBytes", recording.getSize());
+        status.put("destination", recording.getDestination() == null ? null : recording.getDestination().toString());
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Long durationSeconds) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new InvalidEndpointRequestException("Recording " + recording.getName() + " is already running",
+                    "A recording is already running");
+        }
+        long seconds = durationSeconds == null
+                ? defaultDurationSeconds
+                : Math.min(Math.max(1, durationSeconds), maxDurationSeconds);
+
+        Recording next;
+        try {
+            next = new Recording(Configuration.getConfiguration(settings));
+        } catch (Exception ex) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings '" + settings + "': " + ex.getMessage(),
+                    "Unknown JFR settings");
+        }
+        for (String event : SENSITIVE_EVENTS) {
+            next.disable(event);
+        }
+
+        Instant now = Instant.now();
+        String name = "worker-" + workerId + "-" + FILE_TIMESTAMP.format(now);
+        try {
+            Files.createDirectories(directory);
+            deleteOldRecordings(maxFiles - 1);
+            // the id only keeps workers sharing the directory apart; the timestamp leads so names sort by age
+            next.setDestination(directory.resolve(FILE_PREFIX + FILE_TIMESTAMP.format(now) + "-" + workerId + ".jfr"));
+        } catch (IOException ex) {
+            next.close();
+            throw new IllegalStateException("Cannot write JFR recording to " + directory, ex);
+        }
+        next.setName(name);
+        next.setDuration(Duration.ofSeconds(seconds));
+        next.setMaxSize(maxSizeBytes);
+        next.setToDisk(true);
+        next.start();
+
+        if (recording != null) recording.close();
+        recording = next;
+        log.info("JFR recording {} started. duration={}s maxSize={}MB settings={} destination={}",
+                name, seconds, maxSizeBytes / (1024 * 1024), settings, next.getDestination());
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new InvalidEndpointRequestException("No recording is running", "No recording is running");
+        }
+        recording.stop();
+        log.info("JFR recording {} stopped. destination={}", recording.getName(), recording.getDestination());
+        return status();
+    }
+
+    // matched on the fixed prefix, not the worker id, which is random per start unless worker.id is set
+    private void deleteOldRecordings(int keep) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*.jfr")) {
+            stream.forEach(files::add);
+        }
+        if (files.size() <= keep) return;
+
+        files.sort(null);
+        for (Path old : files.subList(0, files.size() - keep)) {
+            try {
+                Files.deleteIfExists(old);
+                log.info("Deleted old JFR recording {}", old);
+            } catch (IOException ex) {
+                log.warn("Cannot delete old JFR recording {}: {}", old, ex.toString());
+            }
+        }
+    }
+
+    // a running recording is stopped, which writes it to its destination like DELETE does
+    @PreDestroy
+    public synchronized void close() {
+        if (recording == null) return;
+        if (recording.getState() == RecordingState.RUNNING) recording.stop();
+        recording.close();
+    }
+}
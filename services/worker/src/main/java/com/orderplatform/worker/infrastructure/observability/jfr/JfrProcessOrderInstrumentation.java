@@ -0,0 +1,22 @@
+package com.orderplatform.worker.infrastructure.observability.jfr;
+
+import com.orderplatform.core.application.port.ProcessOrderInstrumentation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Writes ProcessOrderUseCase stage timings into the thread's open {@link OrderProcessingEvent}, if any. */
+@Component
+@ConditionalOnProperty(name = "worker.jfr.stage-timings.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrProcessOrderInstrumentation implements ProcessOrderInstrumentation {
+
+    @Override
+    public boolean enabled() {
+        return true;
+    }
+
+    @Override
+    public void stage(Stage stage, boolean ok, long nanos) {
+        OrderProcessingEvent event = OrderProcessingEvent.current();
+        if (event != null) event.stage(stage, nanos);
+    }
+}
@@ -0,0 +1,110 @@
+package com.orderplatform.worker.infrastructure.observability.jfr;
+
+import com.orderplatform.core.application.port.ProcessOrderInstrumentation.Stage;
+import com.orderplatform.core.application.usecase.ProcessOrderUseCase;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.UUID;
+
+/**
+ * One order through ProcessOrderUseCase (transaction included), with the use case's stage timings.
+ *
+ * While the event is open it is the current event of its thread, which is where
+ * {@link JfrProcessOrderInstrumentation} writes the stages. With no recording running the event is
+ * disabled: nothing is begun, set or bound to the thread.
+ */
+@Name("com.orderplatform.worker.OrderProcessing")
+@Label("Order Processing")
+@Category({"Order Platform", "Worker"})
+@Description("One order processed by the worker, with ProcessOrderUseCase stage timings")
+@StackTrace(false)
+public final class OrderProcessingEvent extends Event {
+
+    private static final ThreadLocal<OrderProcessingEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Source")
+    @Description("outbox or sqs")
+    private String source;
+
+    @Label("Order Id")
+    private String orderId;
+
+    @Label("Outcome")
+    @Description("PROCESSED, RETRY, FAILED, or ERROR when processing threw")
+    private String outcome;
+
+    @Label("Mark Processing")
+    @Timespan(Timespan.NANOSECONDS)
+    private long markProcessing;
+
+    @Label("Lookup")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lookup;
+
+    @Label("Process")
+    @Timespan(Timespan.NANOSECONDS)
+    private long process;
+
+    @Label("Mark Processed")
+    @Timespan(Timespan.NANOSECONDS)
+    private long markProcessed;
+
+    @Label("Mark Failure")
+    @Timespan(Timespan.NANOSECONDS)
+    private long markFailure;
+
+    @Label("DLQ Write")
+    @Timespan(Timespan.NANOSECONDS)
+    private long dlqWrite;
+
+    private transient boolean open;
+
+    public static OrderProcessingEvent start(String source) {
+        OrderProcessingEvent event = new OrderProcessingEvent();
+        if (event.isEnabled()) {
+            event.source = source;
+            event.open = true;
+            CURRENT.set(event);
+            event.begin();
+        }
+        return event;
+    }
+
+    static OrderProcessingEvent current() {
+        return CURRENT.get();
+    }
+
+    public void orderId(UUID orderId) {
+        if (open && orderId != null) this.orderId = orderId.toString();
+    }
+
+    public void outcome(ProcessOrderUseCase.Outcome outcome) {
+        if (open && outcome != null) this.outcome = outcome.name();
+    }
+
+    void stage(Stage stage, long nanos) {
+        switch (stage) {
+            case MARK_PROCESSING -> markProcessing = nanos;
+            case LOOKUP -> lookup = nanos;
+            case PROCESS -> process = nanos;
+            case MARK_PROCESSED -> markProcessed = nanos;
+            case MARK_FAILURE -> markFailure = nanos;
+            case DLQ_WRITE -> dlqWrite = nanos;
+        }
+    }
+
+    /** Ends the event and unbinds it from the thread; call from a finally block. */
+    public void finish() {
+        if (!open) return;
+        open = false;
+        CURRENT.remove();
+        if (outcome == null) outcome = "ERROR";
+        commit();
+    }
+}
@@ -0,0 +1,45 @@
+package com.orderplatform.worker.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One claimReady call: how many events were asked for and how many came back, over the call's duration. */
+@Name("com.orderplatform.worker.OutboxClaim")
+@Label("Outbox Claim")
+@Category({"Order Platform", "Worker"})
+@Description("Outbox claimReady batch")
+@StackTrace(false)
+public final class OutboxClaimEvent extends Event {
+
+    @Label("Job")
+    @Description("processor or relay")
+    private String job;
+
+    @Label("Requested")
+    private int requested;
+
+    @Label("Claimed")
+    private int claimed;
+
+    @Label("Partitioned")
+    private boolean partitioned;
+
+    public static OutboxClaimEvent start() {
+        OutboxClaimEvent event = new OutboxClaimEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String job, int requested, int claimed, boolean partitioned) {
+        if (!shouldCommit()) return;
+        this.job = job;
+        this.requested = requested;
+        this.claimed = claimed;
+        this.partitioned = partitioned;
+        commit();
+    }
+}
@@ -0,0 +1,57 @@
+package com.orderplatform.worker.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One SQS API call (SendMessageBatch, ReceiveMessage, DeleteMessage, DeleteMessageBatch).
+ * A call that threw has every message counted as failed and the exception class as error.
+ */
+@Name("com.orderplatform.worker.SqsCall")
+@Label("SQS Call")
+@Category({"Order Platform", "Worker"})
+@Description("SQS send/receive/delete call")
+@StackTrace(false)
+public final class SqsCallEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Messages")
+    @Description("Messages sent, received or deleted by the call")
+    private int messages;
+
+    @Label("Failed")
+    @Description("Batch entries SQS rejected")
+    private int failed;
+
+    @Label("Error")
+    private String error;
+
+    public static SqsCallEvent start() {
+        SqsCallEvent event = new SqsCallEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String operation, int messages, int failed) {
+        commit(operation, messages, failed, null);
+    }
+
+    public void commitError(String operation, int messages, Exception error) {
+        commit(operation, messages, messages, error.getClass().getSimpleName());
+    }
+
+    private void commit(String operation, int messages, int failed, String error) {
+        if (!shouldCommit()) return;
+        this.operation = operation;
+        this.messages = messages;
+        this.failed = failed;
+        this.error = error;
+        commit();
+    }
+}
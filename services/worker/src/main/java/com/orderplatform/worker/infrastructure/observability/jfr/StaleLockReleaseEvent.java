@@ -0,0 +1,38 @@
+package com.orderplatform.worker.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** One releaseStaleLocks call, including the ones that found nothing to release. */
+@Name("com.orderplatform.worker.StaleLockRelease")
+@Label("Outbox Stale Lock Release")
+@Category({"Order Platform", "Worker"})
+@Description("PROCESSING outbox rows whose lock expired, handed back to PENDING")
+@StackTrace(false)
+public final class StaleLockReleaseEvent extends Event {
+
+    @Label("Released")
+    private int released;
+
+    @Label("Lock Timeout")
+    @Timespan(Timespan.SECONDS)
+    private long lockTimeoutSeconds;
+
+    public static StaleLockReleaseEvent start() {
+        StaleLockReleaseEvent event = new StaleLockReleaseEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(int released, long lockTimeoutSeconds) {
+        if (!shouldCommit()) return;
+        this.released = released;
+        this.lockTimeoutSeconds = lockTimeoutSeconds;
+        commit();
+    }
+}
@@ -1,11 +1,13 @@
 package com.orderplatform.worker.infrastructure.persistence;
 
-
+import com.orderplatform.common.persistence.JdbcOrderStatements;
 import com.orderplatform.core.application.port.OrderRepository;
 import com.orderplatform.core.domain.order.Order;
 import com.orderplatform.core.domain.order.OrderStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,9 +15,11 @@ import java.util.UUID;
 public class JpaOrderRepository implements OrderRepository {
 
     private final SpringDataOrderRepository springRepo;
+    private final JdbcOrderStatements statements;
 
-    public JpaOrderRepository(SpringDataOrderRepository springRepo) {
+    public JpaOrderRepository(SpringDataOrderRepository springRepo, JdbcTemplate jdbc) {
         this.springRepo = springRepo;
+        this.statements = new JdbcOrderStatements(jdbc);
     }
 
     @Override
@@ -44,4 +48,21 @@ public class JpaOrderRepository implements OrderRepository {
                 )
         );
     }
+
+    // conditional UPDATEs on the JDBC connection of the surrounding transaction, see JdbcOrderStatements
+
+    @Override
+    public boolean markProcessing(UUID id, Instant now) {
+        return statements.markProcessing(id, now);
+    }
+
+    @Override
+    public boolean markProcessed(UUID id, Instant now) {
+        return statements.markProcessed(id, now);
+    }
+
+    @Override
+    public Optional<Order> markFailure(UUID id, String reason, int maxRetries, Instant now) {
+        return statements.markFailure(id, reason, maxRetries, now);
+    }
 }
@@ -1,6 +1,7 @@
 package com.orderplatform.worker.infrastructure.persistence.outbox;
 
 import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.model.OutboxReschedule;
 import com.orderplatform.core.application.model.OutboxStatus;
 import com.orderplatform.core.application.port.OutboxRepository;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -9,9 +10,14 @@ import org.springframework.stereotype.Repository;
 import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * Status transitions raise the API's backlog deltas themselves: an AFTER UPDATE statement trigger on
+ * order_outbox (API migration V11) notifies order_outbox_stats, so no extra round trip happens here.
+ */
 @Repository
 public class JdbcOutboxRepository implements OutboxRepository {
 
@@ -58,6 +64,41 @@ public class JdbcOutboxRepository implements OutboxRepository {
         );
     }
 
+    @Override
+    public List<OutboxEvent> claimReady(int limit, Instant now, String lockedBy, Collection<Integer> partitions) {
+        if (partitions.isEmpty()) return List.of();
+
+        String sql = """
+        UPDATE order_outbox
+        SET status = 'PROCESSING',
+            locked_at = ?,
+            locked_by = ?
+        WHERE id IN (
+            SELECT id
+            FROM order_outbox
+            WHERE status = 'PENDING'
+              AND partition_key = ANY(?)
+              AND next_attempt_at <= ?
+            ORDER BY created_at
+            FOR UPDATE SKIP LOCKED
+            LIMIT ?
+        )
+        RETURNING id, aggregate_id, event_type, payload, status, attempts, next_attempt_at, created_at
+        """;
+
+        return jdbc.query(
+                con -> {
+                    var ps = con.prepareStatement(sql);
+                    ps.setTimestamp(1, Timestamp.from(now));
+                    ps.setString(2, lockedBy);
+                    ps.setArray(3, con.createArrayOf("smallint", partitions.toArray()));
+                    ps.setTimestamp(4, Timestamp.from(now));
+                    ps.setInt(5, limit);
+                    return ps;
+                },
+                (rs, rowNum) -> map(rs)
+        );
+    }
 
     @Override
     public void markProcessing(UUID eventId, Instant lockedAt, String lockedBy) {
@@ -158,4 +199,86 @@ public class JdbcOutboxRepository implements OutboxRepository {
         );
     }
 
+    // ---- Bulk transitions (one statement each, ids passed as arrays) ----
+
+    @Override
+    public void markProcessed(Collection<UUID> eventIds, Instant processedAt) {
+        if (eventIds.isEmpty()) return;
+
+        String sql = """
+        UPDATE order_outbox
+        SET status = 'PROCESSED',
+            processed_at = ?,
+            locked_at = NULL,
+            locked_by = NULL
+        WHERE id = ANY(?)
+        """;
+
+        jdbc.update(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setTimestamp(1, Timestamp.from(processedAt));
+            ps.setArray(2, con.createArrayOf("uuid", eventIds.toArray()));
+            return ps;
+        });
+    }
+
+    @Override
+    public void reschedule(Collection<OutboxReschedule> reschedules) {
+        if (reschedules.isEmpty()) return;
+
+        String sql = """
+        UPDATE order_outbox o
+        SET status = 'PENDING',
+            attempts = o.attempts + 1,
+            next_attempt_at = r.next_attempt_at,
+            last_error = r.last_error,
+            locked_at = NULL,
+            locked_by = NULL
+        FROM unnest(?::uuid[], ?::timestamptz[], ?::text[]) AS r(id, next_attempt_at, last_error)
+        WHERE o.id = r.id
+        """;
+
+        int n = reschedules.size();
+        Object[] ids = new Object[n];
+        Object[] nextAttempts = new Object[n];
+        Object[] errors = new Object[n];
+        int i = 0;
+        for (OutboxReschedule r : reschedules) {
+            ids[i] = r.eventId();
+            nextAttempts[i] = Timestamp.from(r.nextAttemptAt());
+            errors[i] = r.lastError();
+            i++;
+        }
+
+        jdbc.update(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("uuid", ids));
+            ps.setArray(2, con.createArrayOf("timestamptz", nextAttempts));
+            ps.setArray(3, con.createArrayOf("text", errors));
+            return ps;
+        });
+    }
+
+    @Override
+    public void markFailed(Collection<UUID> eventIds, Instant failedAt, String lastError) {
+        if (eventIds.isEmpty()) return;
+
+        String sql = """
+        UPDATE order_outbox
+        SET status = 'FAILED',
+            processed_at = ?,
+            last_error = ?,
+            locked_at = NULL,
+            locked_by = NULL
+        WHERE id = ANY(?)
+        """;
+
+        jdbc.update(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setTimestamp(1, Timestamp.from(failedAt));
+            ps.setString(2, lastError);
+            ps.setArray(3, con.createArrayOf("uuid", eventIds.toArray()));
+            return ps;
+        });
+    }
 }
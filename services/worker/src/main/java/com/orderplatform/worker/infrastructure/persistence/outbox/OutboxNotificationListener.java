@@ -0,0 +1,165 @@
+package com.orderplatform.worker.infrastructure.persistence.outbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wake-up source for the outbox jobs.
+ *
+ * When worker.outbox.notify.enabled=true a dedicated connection (outside the Hikari pool) runs
+ * LISTEN order_outbox; the API-side trigger notifies on every committed insert. Jobs block in
+ * {@link #awaitWork()} and only fall back to polling every worker.outbox.notify.fallback-poll-ms.
+ * Retries rescheduled by this worker are not notified (no insert), so every pending retry time is kept
+ * and the wait is cut short at the next one due.
+ * When disabled, awaitWork() returns immediately and the jobs keep their fixed-delay polling.
+ */
+@Component
+public class OutboxNotificationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxNotificationListener.class);
+
+    public static final String CHANNEL = "order_outbox";
+
+    @Value("${worker.outbox.notify.enabled:false}")
+    private boolean enabled;
+
+    @Value("${worker.outbox.notify.fallback-poll-ms:30000}")
+    private long fallbackPollMs;
+
+    @Value("${worker.outbox.notify.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    // permits = "there may be work"; drained on every wake-up so bursts coalesce into one poll
+    private final Semaphore signal = new Semaphore(0);
+
+    // retries rounded up to RETRY_BUCKET_MS, so a burst of reschedules costs one entry per bucket
+    private static final long RETRY_BUCKET_MS = 10;
+
+    // every retry time we know of (our own reschedules), so retries don't wait for the fallback poll
+    private final ConcurrentSkipListSet<Long> retryAtMillis = new ConcurrentSkipListSet<>();
+
+    private volatile boolean running;
+    private volatile Connection connection;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+
+        running = true;
+        Thread listenerThread = new Thread(this::runLoop, "outbox-listen");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("Outbox LISTEN/NOTIFY enabled. channel={} fallbackPollMs={}", CHANNEL, fallbackPollMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        closeQuietly(connection);
+        signal.release();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Blocks until a notification arrives, a known retry becomes due or the fallback interval elapses.
+     * Returns immediately when LISTEN/NOTIFY is disabled.
+     */
+    public void awaitWork() throws InterruptedException {
+        if (!enabled) return;
+
+        long timeoutMs = fallbackPollMs;
+        Long nextRetry = retryAtMillis.ceiling(Long.MIN_VALUE); // null when empty, unlike first()
+        if (nextRetry != null) {
+            timeoutMs = Math.max(0, Math.min(timeoutMs, nextRetry - System.currentTimeMillis()));
+        }
+
+        signal.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        signal.drainPermits();
+
+        // the claim that follows takes everything due now; later retries stay armed for the next wait
+        retryAtMillis.headSet(System.currentTimeMillis(), true).clear();
+    }
+
+    /** Called by jobs when they reschedule an event, so the wait is cut short when it becomes due. */
+    public void expectRetryAt(Instant nextAttemptAt) {
+        if (!enabled) return;
+        long millis = nextAttemptAt.toEpochMilli();
+        retryAtMillis.add((millis + RETRY_BUCKET_MS - 1) / RETRY_BUCKET_MS * RETRY_BUCKET_MS);
+    }
+
+    private void runLoop() {
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(url, username, password)) {
+                connection = conn;
+                try (Statement st = conn.createStatement()) {
+                    st.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = conn.unwrap(PGConnection.class);
+
+                // anything inserted while we were not listening
+                signal.release();
+                log.info("Listening for outbox notifications on channel {}", CHANNEL);
+
+                while (running) {
+                    // timeout only so a dead socket is noticed and stop() is honoured
+                    PGNotification[] notifications = pg.getNotifications(10_000);
+                    if (notifications != null && notifications.length > 0) {
+                        signal.release();
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) return;
+                log.warn("Outbox LISTEN connection lost. Reconnecting in {} ms. err={}", reconnectDelayMs, ex.toString());
+                // jobs fall back to polling while we're away
+                signal.release();
+                sleepQuietly(reconnectDelayMs);
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        if (conn == null) return;
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // shutting down
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.orderplatform.worker.infrastructure.persistence.outbox;
+
+import com.orderplatform.worker.config.WorkerIdentity;
+import com.orderplatform.worker.infrastructure.observability.WorkerMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Splits the outbox partitions (hash of aggregate_id, see API migration V7) between the live workers.
+ *
+ * When worker.outbox.partitioning.enabled=true every worker heartbeats into outbox_workers. Members
+ * whose heartbeat is younger than member-ttl-ms are sorted by id; member i of n owns the partitions
+ * p with p % n == i. Joins, leaves and crashes rebalance on the next heartbeat of every member.
+ *
+ * During a rebalance two workers may briefly both own a partition. That only costs ordering, never
+ * correctness: the claim still goes through FOR UPDATE SKIP LOCKED, so an event is claimed once.
+ */
+@Component
+public class OutboxPartitionAssignment {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPartitionAssignment.class);
+
+    // must match the modulus of order_outbox.partition_key (API migration V7)
+    public static final int PARTITIONS = 64;
+
+    @Value("${worker.outbox.partitioning.enabled:false}")
+    private boolean enabled;
+
+    @Value("${worker.outbox.partitioning.member-ttl-ms:15000}")
+    private long memberTtlMs;
+
+    private final JdbcTemplate jdbc;
+    private final String workerId;
+
+    private volatile Set<Integer> owned = Set.of();
+
+    public OutboxPartitionAssignment(JdbcTemplate jdbc, WorkerIdentity identity, WorkerMetrics metrics) {
+        this.jdbc = jdbc;
+        this.workerId = identity.id();
+        metrics.registerOwnedPartitions(() -> owned.size());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Partitions this worker may claim from. Empty until the first heartbeat went through. */
+    public Set<Integer> owned() {
+        return owned;
+    }
+
+    @Scheduled(fixedDelayString = "${worker.outbox.partitioning.heartbeat-ms:5000}")
+    public void heartbeat() {
+        if (!enabled) return;
+
+        try {
+            jdbc.update("""
+                INSERT INTO outbox_workers (worker_id, heartbeat_at)
+                VALUES (?, NOW())
+                ON CONFLICT (worker_id) DO UPDATE SET heartbeat_at = NOW()
+                """, workerId);
+
+            // DB clock for both sides of the comparison: no skew between workers
+            List<String> members = jdbc.queryForList("""
+                SELECT worker_id
+                FROM outbox_workers
+                WHERE heartbeat_at > NOW() - make_interval(secs => ?)
+                ORDER BY worker_id
+                """, String.class, memberTtlMs / 1000.0);
+
+            jdbc.update("""
+                DELETE FROM outbox_workers
+                WHERE heartbeat_at < NOW() - make_interval(secs => ?)
+                """, memberTtlMs * 10 / 1000.0);
+
+            assign(members);
+        } catch (Exception ex) {
+            // keep the current assignment; if we are gone for longer than the TTL the others take over
+            log.warn("Outbox partition heartbeat failed. Keeping {} partitions. err={}", owned.size(), ex.toString());
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!enabled) return;
+        owned = Set.of();
+        try {
+            // others pick up our partitions on their next heartbeat instead of after the TTL
+            jdbc.update("DELETE FROM outbox_workers WHERE worker_id = ?", workerId);
+        } catch (Exception ex) {
+            log.warn("Could not deregister worker {} from outbox_workers. err={}", workerId, ex.toString());
+        }
+    }
+
+    private void assign(List<String> members) {
+        int index = members.indexOf(workerId);
+        if (index < 0) {
+            // our heartbeat is not visible yet: claim nothing rather than guess
+            owned = Set.of();
+            return;
+        }
+
+        int n = members.size();
+        Set<Integer> next = new TreeSet<>();
+        for (int p = index; p < PARTITIONS; p += n) {
+            next.add(p);
+        }
+
+        if (!next.equals(owned)) {
+            log.info("Outbox partitions rebalanced. worker={} members={} owned={}", workerId, n, summarize(next));
+        }
+        owned = Set.copyOf(next);
+    }
+
+    private static String summarize(Set<Integer> partitions) {
+        List<Integer> list = new ArrayList<>(partitions);
+        return list.size() <= 8 ? list.toString() : list.subList(0, 8) + "...(" + list.size() + ")";
+    }
+}
@@ -0,0 +1,60 @@
+package com.orderplatform.worker.job;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Claim-size controller for the outbox jobs (additive increase, multiplicative decrease).
+ *
+ * - grows by growthStep while batches come back full and the batch finished under the target latency
+ * - halves when the batch was too slow, had failures, or the claim itself failed
+ * - otherwise (partial batch, healthy) keeps the current size
+ *
+ * The latency target should stay well below worker.outbox.lockTimeoutSeconds: events claimed but not
+ * finished before the lock timeout are handed back by the stale-lock release and processed twice.
+ */
+public class AdaptiveBatchSizer {
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetLatencyNanos;
+    private final int growthStep;
+
+    private final AtomicInteger current;
+
+    public AdaptiveBatchSizer(int minSize, int maxSize, long targetLatencyMs, int growthStep) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.targetLatencyNanos = Math.max(1, targetLatencyMs) * 1_000_000L;
+        this.growthStep = Math.max(1, growthStep);
+        this.current = new AtomicInteger(this.minSize);
+    }
+
+    public int next() {
+        return current.get();
+    }
+
+    /** Exposed for the batch size gauge. */
+    public AtomicInteger current() {
+        return current;
+    }
+
+    public void onBatch(int requested, int claimed, long elapsedNanos, boolean hadErrors) {
+        if (hadErrors || elapsedNanos > targetLatencyNanos) {
+            shrink();
+        } else if (claimed >= requested) {
+            grow();
+        }
+    }
+
+    public void onError() {
+        shrink();
+    }
+
+    private void grow() {
+        current.updateAndGet(n -> Math.min(maxSize, n + growthStep));
+    }
+
+    private void shrink() {
+        current.updateAndGet(n -> Math.max(minSize, n / 2));
+    }
+}
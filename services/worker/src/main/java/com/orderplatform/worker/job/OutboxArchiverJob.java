@@ -0,0 +1,227 @@
+package com.orderplatform.worker.job;
+
+import com.orderplatform.worker.infrastructure.observability.WorkerMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Partition maintenance for the range-partitioned order_outbox (API migration V8).
+ *
+ * Every run, on one connection and guarded by an advisory lock so only one worker of the fleet does it:
+ * - pre-creates the daily partitions for the next precreate-days (CREATE + ATTACH, no lock on readers/writers)
+ * - detaches and drops daily partitions older than retention-days that hold only PROCESSED/FAILED rows
+ * - purges terminal rows past retention from the history/default partitions (and from expired days that
+ *   still hold live rows) in bounded DELETE batches, each one its own short transaction
+ *
+ * DETACH needs a brief ACCESS EXCLUSIVE lock on order_outbox; it runs with lock_timeout so it gives up
+ * and retries next run instead of queueing behind claims and blocking inserts.
+ */
+@Component
+@ConditionalOnProperty(name = "worker.outbox.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxArchiverJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxArchiverJob.class);
+
+    private static final String PARENT = "order_outbox";
+    private static final String HISTORY = "order_outbox_history";
+    private static final String DEFAULT = "order_outbox_default";
+    private static final Pattern DAILY = Pattern.compile("order_outbox_p(\\d{8})");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // arbitrary, just has to be stable across the fleet
+    private static final long ADVISORY_LOCK_KEY = 0x6f7574626f78L;
+
+    @Value("${worker.outbox.archive.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${worker.outbox.archive.precreate-days:7}")
+    private int precreateDays;
+
+    @Value("${worker.outbox.archive.purge-batch-size:5000}")
+    private int purgeBatchSize;
+
+    @Value("${worker.outbox.archive.max-purge-batches:20}")
+    private int maxPurgeBatches;
+
+    @Value("${worker.outbox.archive.lock-timeout-ms:2000}")
+    private long lockTimeoutMs;
+
+    // true: detach expired partitions and leave them as standalone tables (e.g. for export), don't drop
+    @Value("${worker.outbox.archive.detach-only:false}")
+    private boolean detachOnly;
+
+    private final JdbcTemplate jdbc;
+    private final WorkerMetrics metrics;
+
+    public OutboxArchiverJob(JdbcTemplate jdbc, WorkerMetrics metrics) {
+        this.jdbc = jdbc;
+        this.metrics = metrics;
+    }
+
+    @Scheduled(initialDelayString = "${worker.outbox.archive.initial-delay-ms:60000}",
+               fixedDelayString = "${worker.outbox.archive.delay-ms:300000}")
+    public void run() {
+        try {
+            jdbc.execute((ConnectionCallback<Void>) con -> {
+                // autocommit session: every statement below is its own short transaction
+                JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(con, true));
+
+                Boolean locked = session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("Outbox archiver already running elsewhere. Skipping.");
+                    return null;
+                }
+                try {
+                    session.execute("SET lock_timeout = " + Math.max(1, lockTimeoutMs));
+                    maintain(session);
+                } finally {
+                    // the connection goes back to the pool
+                    session.execute("RESET lock_timeout");
+                    session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+                }
+                return null;
+            });
+        } catch (Exception ex) {
+            log.error("Outbox archiver run failed. err={}", ex.toString());
+        }
+    }
+
+    private void maintain(JdbcTemplate session) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate cutoff = today.minusDays(retentionDays);
+        Timestamp cutoffTs = Timestamp.from(cutoff.atStartOfDay(ZoneOffset.UTC).toInstant());
+
+        Set<String> attached = new HashSet<>(session.queryForList("""
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'order_outbox'::regclass
+            """, String.class));
+
+        for (int i = 0; i <= precreateDays; i++) {
+            LocalDate day = today.plusDays(i);
+            String name = dailyName(day);
+            if (!attached.contains(name)) {
+                createDaily(session, name, day);
+            }
+        }
+
+        int budget = Math.max(1, maxPurgeBatches);
+
+        for (String name : attached) {
+            Matcher m = DAILY.matcher(name);
+            if (!m.matches()) continue;
+
+            LocalDate day = LocalDate.parse(m.group(1), DAY);
+            // the whole partition is past retention once its upper bound (day + 1) is
+            if (day.plusDays(1).isAfter(cutoff)) continue;
+
+            if (hasLiveRows(session, name)) {
+                log.warn("Expired outbox partition {} still holds PENDING/PROCESSING rows. Purging terminal rows only.", name);
+                budget -= purgeTerminal(session, name, cutoffTs, budget);
+            } else {
+                retire(session, name);
+            }
+        }
+
+        if (attached.contains(HISTORY)) {
+            budget -= purgeTerminal(session, HISTORY, cutoffTs, budget);
+            Boolean empty = session.queryForObject("SELECT NOT EXISTS (SELECT 1 FROM " + HISTORY + ")", Boolean.class);
+            if (Boolean.TRUE.equals(empty)) {
+                retire(session, HISTORY);
+            }
+        }
+        if (attached.contains(DEFAULT)) {
+            purgeTerminal(session, DEFAULT, cutoffTs, budget);
+        }
+    }
+
+    private void createDaily(JdbcTemplate session, String name, LocalDate day) {
+        try {
+            // CREATE + ATTACH instead of CREATE ... PARTITION OF: ATTACH only takes SHARE UPDATE EXCLUSIVE on the parent
+            session.execute("CREATE TABLE IF NOT EXISTS " + name
+                    + " (LIKE " + PARENT + " INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS)");
+            session.execute("ALTER TABLE " + PARENT + " ATTACH PARTITION " + name
+                    + " FOR VALUES FROM ('" + day + " 00:00:00+00') TO ('" + day.plusDays(1) + " 00:00:00+00')");
+            metrics.incArchivePartition("created");
+            log.info("Created outbox partition {}", name);
+        } catch (Exception ex) {
+            // e.g. lock timeout, or rows for that day already sitting in the default partition
+            log.warn("Could not create outbox partition {}. Rows for that day go to {}. err={}", name, DEFAULT, ex.toString());
+        }
+    }
+
+    private boolean hasLiveRows(JdbcTemplate session, String partition) {
+        Boolean live = session.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + partition + " WHERE status IN ('PENDING','PROCESSING'))",
+                Boolean.class);
+        return Boolean.TRUE.equals(live);
+    }
+
+    private void retire(JdbcTemplate session, String partition) {
+        try {
+            session.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + partition);
+        } catch (Exception ex) {
+            log.warn("Could not detach outbox partition {} (retrying next run). err={}", partition, ex.toString());
+            return;
+        }
+        metrics.incArchivePartition("detached");
+
+        if (detachOnly) {
+            log.info("Detached outbox partition {} (kept as standalone table)", partition);
+            return;
+        }
+        session.execute("DROP TABLE " + partition);
+        metrics.incArchivePartition("dropped");
+        log.info("Dropped outbox partition {}", partition);
+    }
+
+    /**
+     * Deletes terminal rows older than the cutoff, at most purgeBatchSize rows per statement and at most
+     * maxBatches statements. Returns the number of statements used.
+     */
+    private int purgeTerminal(JdbcTemplate session, String partition, Timestamp cutoff, int maxBatches) {
+        int batches = 0;
+        long total = 0;
+        while (batches < maxBatches) {
+            batches++;
+            int deleted = session.update("""
+                DELETE FROM %s
+                WHERE ctid IN (
+                    SELECT ctid
+                    FROM %s
+                    WHERE status IN ('PROCESSED','FAILED')
+                      AND created_at < ?
+                    LIMIT ?
+                )
+                """.formatted(partition, partition), cutoff, purgeBatchSize);
+            total += deleted;
+            metrics.incArchivePurged(deleted);
+            if (deleted < purgeBatchSize) break;
+        }
+        if (total > 0) {
+            log.info("Purged {} terminal outbox rows from {}", total, partition);
+        }
+        return batches;
+    }
+
+    private static String dailyName(LocalDate day) {
+        return "order_outbox_p" + day.format(DAY);
+    }
+}
@@ -1,25 +1,40 @@
 package com.orderplatform.worker.job;
 
 import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.model.OutboxReschedule;
 import com.orderplatform.core.application.port.OutboxRepository;
+import com.orderplatform.core.application.retry.RetryPolicy;
 import com.orderplatform.core.application.usecase.ProcessOrderUseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.MDC;
 import com.orderplatform.worker.infrastructure.observability.WorkerMetrics;
+import com.orderplatform.worker.infrastructure.observability.jfr.OrderProcessingEvent;
+import com.orderplatform.worker.infrastructure.observability.jfr.OutboxClaimEvent;
+import com.orderplatform.worker.infrastructure.observability.jfr.StaleLockReleaseEvent;
+import com.orderplatform.worker.config.WorkerIdentity;
+import com.orderplatform.worker.infrastructure.persistence.outbox.OutboxNotificationListener;
+import com.orderplatform.worker.infrastructure.persistence.outbox.OutboxPartitionAssignment;
 
 
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 @ConditionalOnProperty(name = "worker.mode", havingValue = "outbox-processor", matchIfMissing = true)
@@ -31,28 +46,61 @@ public class OutboxPollingJob {
     private final ProcessOrderUseCase processOrderUseCase;
     private final ObjectMapper objectMapper;
 
-    private final String workerId = "worker-1";
+    private final String workerId;
 
     @Value("${order.worker.maxRetries:3}")
     private int maxRetries;
 
-    @Value("${worker.outbox.retryDelayMs:1000}")
-    private long retryDelayMs;
-
     @Value("${worker.outbox.lockTimeoutSeconds:30}")
     private long lockTimeoutSeconds;
 
+    // sequential: one event after another on the scheduler thread
+    // concurrent: events fanned out to outboxProcessingExecutor
+    @Value("${worker.outbox.processing.mode:sequential}")
+    private String processingMode;
+
     private final WorkerMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor processingExecutor;
+    private final AdaptiveBatchSizer batchSizer;
+    private final OutboxNotificationListener notifications;
+    private final OutboxPartitionAssignment partitions;
+    private final RetryPolicy retryPolicy;
+
+    // last claim came back full: skip the wait, there is probably more
+    private boolean moreWorkLikely = true;
 
 
     public OutboxPollingJob(OutboxRepository outboxRepository,
                             ProcessOrderUseCase processOrderUseCase,
                             ObjectMapper objectMapper,
-                            WorkerMetrics metrics) {
+                            WorkerMetrics metrics,
+                            TransactionTemplate transactionTemplate,
+                            @Qualifier("outboxProcessingExecutor") TaskExecutor processingExecutor,
+                            OutboxNotificationListener notifications,
+                            OutboxPartitionAssignment partitions,
+                            WorkerIdentity identity,
+                            RetryPolicy retryPolicy,
+                            @Value("${worker.outbox.claim.min-batch-size:5}") int minBatchSize,
+                            @Value("${worker.outbox.claim.max-batch-size:200}") int maxBatchSize,
+                            @Value("${worker.outbox.claim.target-batch-latency-ms:10000}") long targetBatchLatencyMs,
+                            @Value("${worker.outbox.claim.growth-step:10}") int growthStep) {
         this.outboxRepository = outboxRepository;
         this.processOrderUseCase = processOrderUseCase;
         this.objectMapper = objectMapper;
         this.metrics = metrics;
+        this.transactionTemplate = transactionTemplate;
+        this.processingExecutor = processingExecutor;
+        this.notifications = notifications;
+        this.partitions = partitions;
+        this.workerId = identity.id();
+        this.retryPolicy = retryPolicy;
+        this.batchSizer = new AdaptiveBatchSizer(minBatchSize, maxBatchSize, targetBatchLatencyMs, growthStep);
+        metrics.registerClaimBatchSize("processor", batchSizer.current());
+    }
+
+    private boolean isConcurrent() {
+        return "concurrent".equalsIgnoreCase(processingMode);
     }
 
 
@@ -72,23 +120,44 @@ public class OutboxPollingJob {
     }
 
 
-    @Scheduled(fixedDelayString = "${worker.outbox.poll.delay-ms:1000}")
-    @Transactional
+    /**
+     * Claims ready events, runs each one through the use case in its own transaction and then
+     * applies the outbox transitions for the whole batch in bulk.
+     * The claim itself commits straight away (rows go to PROCESSING with our lock), so a crash
+     * mid-batch only leaves locks that releaseStaleLocks() hands back after lockTimeoutSeconds.
+     * With LISTEN/NOTIFY enabled the fixed delay is just a re-arm; the actual wait happens in awaitWork().
+     */
+    @Scheduled(fixedDelayString = "#{${worker.outbox.notify.enabled:false} ? 10 : ${worker.outbox.poll.delay-ms:1000}}")
     public void poll() {
+        if (!moreWorkLikely) {
+            try {
+                notifications.awaitWork();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        moreWorkLikely = false;
+
         metrics.incPoll("outbox");
 
         final Instant now = Instant.now();
         final Instant olderThan = now.minusSeconds(lockTimeoutSeconds);
+        final long startedAt = System.nanoTime();
+        final int limit = batchSizer.next();
 
         final List<OutboxEvent> events;
         try {
+            StaleLockReleaseEvent releaseEvent = StaleLockReleaseEvent.start();
             int released = outboxRepository.releaseStaleLocks(olderThan);
+            releaseEvent.commit(released, lockTimeoutSeconds);
             if (released > 0) {
                 log.warn("Released {} stale outbox locks older than {} seconds", released, lockTimeoutSeconds);
             }
 
-            events = outboxRepository.claimReady(5, now, workerId);
+            events = claim(limit, now);
         } catch (Exception ex) {
+            batchSizer.onError();
             metrics.incPollError("outbox", "sql");
             log.error("Outbox poll failed (DB). err={}", ex.toString());
             return;
@@ -96,40 +165,136 @@ public class OutboxPollingJob {
 
         metrics.incReceived(events.size());
         if (events.isEmpty()) return;
+        moreWorkLikely = events.size() >= limit;
 
         for (OutboxEvent e : events) {
-            UUID eventId = e.id();
-            UUID orderId = e.aggregateId();
-
-            String correlationId = extractCorrelationId(e.payload());
-            if (correlationId != null) MDC.put("correlationId", correlationId);
+            metrics.recordQueueWait(e.nextAttemptAt(), now);
+        }
 
-            try {
-                metrics.recordProcessing(() -> {
-                    ProcessOrderUseCase.Outcome outcome =
-                            processOrderUseCase.execute(orderId, Instant.now(), maxRetries);
-
-                    if (outcome == ProcessOrderUseCase.Outcome.PROCESSED) {
-                        outboxRepository.markProcessed(eventId, Instant.now());
-                        metrics.incProcessed();
-                        log.info("Order {} PROCESSED; outbox {} PROCESSED", orderId, eventId);
-
-                    } else if (outcome == ProcessOrderUseCase.Outcome.RETRY) {
-                        Instant nextAttemptAt = Instant.now().plusMillis(retryDelayMs);
-                        outboxRepository.reschedule(eventId, nextAttemptAt, "retry");
-                        metrics.incFailed();
-                        metrics.incRetried();
-                        log.warn("Order {} RETRY; outbox {} rescheduled for {}", orderId, eventId, nextAttemptAt);
-
-                    } else {
-                        outboxRepository.markFailed(eventId, Instant.now(), "failed");
-                        metrics.incFailed();
-                        log.error("Order {} FAILED; outbox {} marked FAILED", orderId, eventId);
-                    }
-                });
-            } finally {
-                MDC.remove("correlationId");
+        BatchOutcomes outcomes = new BatchOutcomes();
+        if (isConcurrent()) {
+            processConcurrently(events, outcomes);
+        } else {
+            for (OutboxEvent e : events) {
+                process(e, outcomes);
             }
         }
+
+        boolean flushed = flush(outcomes);
+
+        batchSizer.onBatch(limit, events.size(), System.nanoTime() - startedAt, !flushed || outcomes.errors.get() > 0);
+    }
+
+    private List<OutboxEvent> claim(int limit, Instant now) {
+        OutboxClaimEvent claimEvent = OutboxClaimEvent.start();
+        boolean partitioned = partitions.isEnabled();
+        List<OutboxEvent> events = partitioned
+                ? outboxRepository.claimReady(limit, now, workerId, partitions.owned())
+                : outboxRepository.claimReady(limit, now, workerId);
+        claimEvent.commit("processor", limit, events.size(), partitioned);
+        return events;
+    }
+
+    private void processConcurrently(List<OutboxEvent> events, BatchOutcomes outcomes) {
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(events.size());
+        for (OutboxEvent e : events) {
+            // blocks here while the executor is at its concurrency limit
+            inFlight.add(CompletableFuture.runAsync(() -> process(e, outcomes), processingExecutor));
+        }
+        // wait for the whole batch so the next poll never overlaps with this one
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Runs the use case for one event in its own transaction and records the outcome.
+     * Outbox rows are only updated afterwards, in bulk, by {@link #flush(BatchOutcomes)}.
+     */
+    private void process(OutboxEvent e, BatchOutcomes outcomes) {
+        UUID eventId = e.id();
+        UUID orderId = e.aggregateId();
+
+        String correlationId = extractCorrelationId(e.payload());
+        if (correlationId != null) MDC.put("correlationId", correlationId);
+
+        OrderProcessingEvent processingEvent = OrderProcessingEvent.start("outbox");
+        processingEvent.orderId(orderId);
+        try {
+            metrics.recordProcessing(() -> {
+                ProcessOrderUseCase.Outcome outcome = transactionTemplate.execute(tx ->
+                        processOrderUseCase.execute(orderId, Instant.now(), maxRetries));
+                processingEvent.outcome(outcome);
+
+                if (outcome == ProcessOrderUseCase.Outcome.PROCESSED) {
+                    outcomes.processed.add(eventId);
+                    metrics.incProcessed();
+                    metrics.recordEndToEnd(true, e.createdAt(), Instant.now());
+                    log.info("Order {} PROCESSED; outbox {} -> PROCESSED", orderId, eventId);
+
+                } else if (outcome == ProcessOrderUseCase.Outcome.ALREADY_PROCESSED) {
+                    // the order committed on an earlier delivery but its outbox row did not (flush failed or
+                    // the worker died before it): close the event instead of failing a processed order
+                    outcomes.processed.add(eventId);
+                    log.info("Order {} already PROCESSED; outbox {} -> PROCESSED", orderId, eventId);
+
+                } else if (outcome == ProcessOrderUseCase.Outcome.RETRY) {
+                    // e.attempts() counts earlier reschedules: this is retry number attempts + 1
+                    Instant nextAttemptAt = retryPolicy.nextAttemptAt(Instant.now(), e.attempts() + 1, e.eventType());
+                    outcomes.rescheduled.add(new OutboxReschedule(eventId, nextAttemptAt, "retry"));
+                    notifications.expectRetryAt(nextAttemptAt);
+                    metrics.incFailed();
+                    metrics.incRetried();
+                    log.warn("Order {} RETRY; outbox {} -> rescheduled for {}", orderId, eventId, nextAttemptAt);
+
+                } else if (outcome == ProcessOrderUseCase.Outcome.SKIPPED) {
+                    // the order already FAILED or another event holds it: close this one, it records nothing
+                    outcomes.failed.add(eventId);
+                    log.warn("Order {} not PENDING; outbox {} -> FAILED", orderId, eventId);
+
+                } else {
+                    outcomes.failed.add(eventId);
+                    metrics.incFailed();
+                    metrics.recordEndToEnd(false, e.createdAt(), Instant.now());
+                    log.error("Order {} FAILED; outbox {} -> FAILED", orderId, eventId);
+                }
+            });
+        } catch (Exception ex) {
+            // Transaction rolled back; the event stays locked until the stale-lock release picks it up again
+            outcomes.errors.incrementAndGet();
+            metrics.incFailed();
+            log.error("Outbox {} processing error for order {}. Left for stale-lock recovery. err={}",
+                    eventId, orderId, ex.toString());
+        } finally {
+            processingEvent.finish();
+            MDC.remove("correlationId");
+        }
+    }
+
+    /**
+     * Applies the batch's outbox transitions: at most three statements, committed together.
+     * If this fails the orders keep their new state and the events are re-delivered after the lock timeout.
+     */
+    private boolean flush(BatchOutcomes outcomes) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                Instant now = Instant.now();
+                outboxRepository.markProcessed(outcomes.processed, now);
+                outboxRepository.reschedule(outcomes.rescheduled);
+                outboxRepository.markFailed(outcomes.failed, now, "failed");
+            });
+            return true;
+        } catch (Exception ex) {
+            metrics.incPollError("outbox", "sql");
+            log.error("Outbox bulk update failed. processed={} rescheduled={} failed={} err={}",
+                    outcomes.processed.size(), outcomes.rescheduled.size(), outcomes.failed.size(), ex.toString());
+            return false;
+        }
+    }
+
+    /** Per-batch outcome buckets; filled concurrently by the processing threads. */
+    private static final class BatchOutcomes {
+        final Queue<UUID> processed = new ConcurrentLinkedQueue<>();
+        final Queue<OutboxReschedule> rescheduled = new ConcurrentLinkedQueue<>();
+        final Queue<UUID> failed = new ConcurrentLinkedQueue<>();
+        final AtomicInteger errors = new AtomicInteger();
     }
 }
@@ -1,21 +1,36 @@
 package com.orderplatform.worker.job;
 
 import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.model.OutboxReschedule;
 import com.orderplatform.core.application.port.OutboxRepository;
+import com.orderplatform.core.application.retry.RetryPolicy;
 import com.orderplatform.worker.infrastructure.observability.WorkerMetrics;
+import com.orderplatform.worker.infrastructure.observability.jfr.OutboxClaimEvent;
+import com.orderplatform.worker.infrastructure.observability.jfr.SqsCallEvent;
+import com.orderplatform.worker.config.WorkerIdentity;
+import com.orderplatform.worker.infrastructure.persistence.outbox.OutboxNotificationListener;
+import com.orderplatform.worker.infrastructure.persistence.outbox.OutboxPartitionAssignment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
-import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
-
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static java.util.Objects.requireNonNullElse;
 
@@ -25,37 +40,92 @@ public class OutboxToSqsRelayJob {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxToSqsRelayJob.class);
 
+    // SendMessageBatch hard limit
+    private static final int SQS_MAX_BATCH = 10;
+
+    // epoch millis of the outbox event (written with its order); read by SqsConsumerJob for end-to-end latency
+    static final String ORDER_CREATED_AT_ATTRIBUTE = "orderCreatedAt";
+
     private final OutboxRepository outboxRepository;
     private final SqsClient sqsClient;
     private final String queueUrl;
 
-    private final String workerId = "worker-relay-1";
+    private final String workerId;
 
     private final WorkerMetrics metrics;
+    private final AdaptiveBatchSizer batchSizer;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxNotificationListener notifications;
+    private final OutboxPartitionAssignment partitions;
+    private final RetryPolicy retryPolicy;
+
+    // last claim came back full: skip the wait, there is probably more
+    private boolean moreWorkLikely = true;
 
     public OutboxToSqsRelayJob(
             OutboxRepository outboxRepository,
             SqsClient sqsClient,
             WorkerMetrics metrics,
-            @Value("${aws.sqs.queueUrl}") String queueUrl
+            TransactionTemplate transactionTemplate,
+            OutboxNotificationListener notifications,
+            OutboxPartitionAssignment partitions,
+            WorkerIdentity identity,
+            RetryPolicy retryPolicy,
+            @Value("${aws.sqs.queueUrl}") String queueUrl,
+            @Value("${worker.outbox.claim.min-batch-size:5}") int minBatchSize,
+            @Value("${worker.outbox.claim.max-batch-size:200}") int maxBatchSize,
+            @Value("${worker.outbox.claim.target-batch-latency-ms:10000}") long targetBatchLatencyMs,
+            @Value("${worker.outbox.claim.growth-step:10}") int growthStep
     ) {
         this.outboxRepository = outboxRepository;
         this.sqsClient = sqsClient;
         this.metrics = metrics;
         this.queueUrl = queueUrl;
+        this.transactionTemplate = transactionTemplate;
+        this.notifications = notifications;
+        this.partitions = partitions;
+        this.workerId = identity.id();
+        this.retryPolicy = retryPolicy;
+        this.batchSizer = new AdaptiveBatchSizer(minBatchSize, maxBatchSize, targetBatchLatencyMs, growthStep);
+        metrics.registerClaimBatchSize("relay", batchSizer.current());
     }
 
-    @Scheduled(fixedDelayString = "${worker.outbox.poll.delay-ms:1000}")
-    @Transactional
+    // With LISTEN/NOTIFY enabled the fixed delay is just a re-arm; the actual wait happens in awaitWork()
+    @Scheduled(fixedDelayString = "#{${worker.outbox.notify.enabled:false} ? 10 : ${worker.outbox.poll.delay-ms:1000}}")
     public void pollAndRelay() {
+        if (!moreWorkLikely) {
+            try {
+                // outside the transaction: waiting must not pin a DB connection
+                notifications.awaitWork();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        moreWorkLikely = false;
+
+        try {
+            transactionTemplate.executeWithoutResult(tx -> relayBatch());
+        } catch (Exception ex) {
+            // claim rolled back with the batch: events go back to PENDING and are relayed again
+            batchSizer.onError();
+            metrics.incPollError("outbox", "sql");
+            log.error("Outbox relay batch rolled back (DB). err={}", ex.toString());
+        }
+    }
+
+    private void relayBatch() {
         metrics.incPoll("outbox");
 
         var now = java.time.Instant.now();
+        final long startedAt = System.nanoTime();
+        final int limit = batchSizer.next();
 
         final List<OutboxEvent> events;
         try {
-            events = outboxRepository.claimReady(5, now, workerId);
+            events = claim(limit, now);
         } catch (Exception ex) {
+            batchSizer.onError();
             metrics.incPollError("outbox", "sql");
             log.error("Outbox relay poll failed (DB). err={}", ex.toString());
             return;
@@ -63,58 +133,118 @@ public class OutboxToSqsRelayJob {
 
         metrics.incReceived(events.size());
         if (events.isEmpty()) return;
+        moreWorkLikely = events.size() >= limit;
+
+        List<UUID> relayed = new ArrayList<>(events.size());
+        List<OutboxReschedule> rescheduled = new ArrayList<>();
 
-        for (OutboxEvent e : events) {
-            var eventId = e.id();
-            var payload = requireNonNullElse(e.payload(), "");
+        // claimReady already moved the rows to PROCESSING under our lock: no per-event markProcessing
+        for (int from = 0; from < events.size(); from += SQS_MAX_BATCH) {
+            List<OutboxEvent> chunk = events.subList(from, Math.min(from + SQS_MAX_BATCH, events.size()));
+            sendChunk(chunk, relayed, rescheduled);
+        }
 
-            // claim lock
-            outboxRepository.markProcessing(eventId, now, workerId);
+        // two statements for the whole batch, committed with the claim
+        outboxRepository.markProcessed(relayed, java.time.Instant.now());
+        outboxRepository.reschedule(rescheduled);
 
-            try {
-                String correlationId = extractCorrelationId(payload);
-
-                SendMessageRequest.Builder req = SendMessageRequest.builder()
-                        .queueUrl(queueUrl)
-                        .messageBody(payload.isBlank()
-                                ? "{\"orderId\":\"" + e.aggregateId() + "\"}"
-                                : payload);
-
-                if (correlationId != null && !correlationId.isBlank()) {
-                    req.messageAttributes(Map.of(
-                            "correlationId",
-                            MessageAttributeValue.builder()
-                                    .dataType("String")
-                                    .stringValue(correlationId)
-                                    .build()
-                    ));
-                }
-
-                sqsClient.sendMessage(req.build());
-                metrics.incRelayPublished();
-
-                outboxRepository.markProcessed(eventId, java.time.Instant.now());
-                log.info("Relayed outbox {} to SQS. aggregateId={}", eventId, e.aggregateId());
-
-            } catch (Exception ex) {
-                outboxRepository.reschedule(eventId, java.time.Instant.now().plusSeconds(5), ex.getMessage());
-                log.warn("Relay failed for outbox {}. Rescheduled. err={}", eventId, ex.toString());
-                metrics.incRelayFailed();
+        boolean hadErrors = !rescheduled.isEmpty();
+        batchSizer.onBatch(limit, events.size(), System.nanoTime() - startedAt, hadErrors);
+    }
+
+    private List<OutboxEvent> claim(int limit, java.time.Instant now) {
+        OutboxClaimEvent claimEvent = OutboxClaimEvent.start();
+        boolean partitioned = partitions.isEnabled();
+        List<OutboxEvent> events = partitioned
+                ? outboxRepository.claimReady(limit, now, workerId, partitions.owned())
+                : outboxRepository.claimReady(limit, now, workerId);
+        claimEvent.commit("relay", limit, events.size(), partitioned);
+        return events;
+    }
+
+    /**
+     * One SendMessageBatch call for up to 10 events. The outbox id is the batch entry id, so
+     * partial failures map straight back to the events that need a retry.
+     */
+    private void sendChunk(List<OutboxEvent> chunk, List<UUID> relayed, List<OutboxReschedule> rescheduled) {
+        Map<String, OutboxEvent> byEntryId = new LinkedHashMap<>();
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(chunk.size());
+        for (OutboxEvent e : chunk) {
+            String entryId = e.id().toString();
+            byEntryId.put(entryId, e);
+            entries.add(toEntry(entryId, e));
+        }
+
+        final SendMessageBatchResponse response;
+        SqsCallEvent sqsEvent = SqsCallEvent.start();
+        try {
+            response = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(entries)
+                    .build());
+            sqsEvent.commit("SendMessageBatch", entries.size(), response.failed().size());
+        } catch (Exception ex) {
+            sqsEvent.commitError("SendMessageBatch", entries.size(), ex);
+            // whole call failed: nothing was sent
+            for (OutboxEvent e : chunk) {
+                reschedule(e, ex.toString(), rescheduled);
             }
+            log.warn("SQS sendMessageBatch failed for {} outbox events. Rescheduled. err={}", chunk.size(), ex.toString());
+            return;
+        }
+
+        for (SendMessageBatchResultEntry ok : response.successful()) {
+            OutboxEvent e = byEntryId.remove(ok.id());
+            if (e == null) continue;
+            relayed.add(e.id());
+            metrics.incRelayPublished();
+            log.info("Relayed outbox {} to SQS. aggregateId={} messageId={}", e.id(), e.aggregateId(), ok.messageId());
+        }
+
+        for (BatchResultErrorEntry failed : response.failed()) {
+            OutboxEvent e = byEntryId.remove(failed.id());
+            if (e == null) continue;
+            String error = failed.code() + ": " + failed.message();
+            reschedule(e, error, rescheduled);
+            log.warn("Relay failed for outbox {}. Rescheduled. senderFault={} err={}", e.id(), failed.senderFault(), error);
+        }
+
+        // SQS reports every entry; anything left unaccounted for is retried rather than assumed sent
+        for (OutboxEvent e : byEntryId.values()) {
+            reschedule(e, "missing from SendMessageBatch response", rescheduled);
+            log.warn("Relay result missing for outbox {}. Rescheduled.", e.id());
         }
     }
 
+    private SendMessageBatchRequestEntry toEntry(String entryId, OutboxEvent e) {
+        var payload = requireNonNullElse(e.payload(), "");
+        String correlationId = OutboxEvent.correlationIdOf(payload);
+
+        SendMessageBatchRequestEntry.Builder entry = SendMessageBatchRequestEntry.builder()
+                .id(entryId)
+                .messageBody(payload.isBlank()
+                        ? "{\"orderId\":\"" + e.aggregateId() + "\"}"
+                        : payload);
+
+        Map<String, MessageAttributeValue> attributes = new HashMap<>(4);
+        // the event is written with its order: lets the consumer measure creation-to-terminal latency
+        attributes.put(ORDER_CREATED_AT_ATTRIBUTE, MessageAttributeValue.builder()
+                .dataType("Number")
+                .stringValue(Long.toString(e.createdAt().toEpochMilli()))
+                .build());
+        if (correlationId != null && !correlationId.isBlank()) {
+            attributes.put("correlationId", MessageAttributeValue.builder()
+                    .dataType("String")
+                    .stringValue(correlationId)
+                    .build());
+        }
+        return entry.messageAttributes(attributes).build();
+    }
 
-    private String extractCorrelationId(String payload) {
-        // expects ..."correlationId":"XYZ"...
-        int i = payload.indexOf("\"correlationId\"");
-        if (i < 0) return null;
-        int colon = payload.indexOf(':', i);
-        if (colon < 0) return null;
-        int q1 = payload.indexOf('"', colon + 1);
-        if (q1 < 0) return null;
-        int q2 = payload.indexOf('"', q1 + 1);
-        if (q2 < 0) return null;
-        return payload.substring(q1 + 1, q2);
+    private void reschedule(OutboxEvent e, String error, List<OutboxReschedule> rescheduled) {
+        var nextAttemptAt = retryPolicy.nextAttemptAt(java.time.Instant.now(), e.attempts() + 1, e.eventType());
+        rescheduled.add(new OutboxReschedule(e.id(), nextAttemptAt, error));
+        notifications.expectRetryAt(nextAttemptAt);
+        metrics.incRelayFailed();
     }
 }
@@ -4,20 +4,34 @@ import com.orderplatform.core.application.usecase.ProcessOrderUseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 import com.orderplatform.worker.infrastructure.observability.WorkerMetrics;
+import com.orderplatform.worker.infrastructure.observability.jfr.OrderProcessingEvent;
+import com.orderplatform.worker.infrastructure.observability.jfr.SqsCallEvent;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Component
 @ConditionalOnProperty(name = "worker.mode", havingValue = "sqs-consumer")
@@ -25,6 +39,12 @@ public class SqsConsumerJob {
 
     private static final Logger log = LoggerFactory.getLogger(SqsConsumerJob.class);
 
+    // ReceiveMessage / DeleteMessageBatch hard limit
+    private static final int SQS_MAX_BATCH = 10;
+
+    // ReceiveMessage long-poll limit
+    private static final int SQS_MAX_WAIT_SECONDS = 20;
+
     private final SqsClient sqsClient;
     private final ProcessOrderUseCase processOrderUseCase;
     private final String queueUrl;
@@ -33,39 +53,66 @@ public class SqsConsumerJob {
     @Value("${order.worker.maxRetries:3}")
     private int maxRetries;
 
+    // single: one message per poll, 1s wait, deleted inline
+    // batch: up to max-messages per poll with long polling, processed concurrently, DeleteMessageBatch
+    @Value("${worker.sqs.consumer.mode:single}")
+    private String consumerMode;
+
+    @Value("${worker.sqs.batch.max-messages:10}")
+    private int batchMaxMessages;
+
+    @Value("${worker.sqs.batch.wait-seconds:20}")
+    private int batchWaitSeconds;
+
 
     private final WorkerMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor processingExecutor;
 
     public SqsConsumerJob(
             SqsClient sqsClient,
             ProcessOrderUseCase processOrderUseCase,
             WorkerMetrics metrics,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("sqsProcessingExecutor") TaskExecutor processingExecutor,
             @Value("${aws.sqs.queueUrl}") String queueUrl
     ) {
         this.sqsClient = sqsClient;
         this.processOrderUseCase = processOrderUseCase;
         this.metrics = metrics;
+        this.transactionTemplate = transactionTemplate;
+        this.processingExecutor = processingExecutor;
         this.queueUrl = queueUrl;
         log.info("SqsConsumerJob ENABLED. queueUrl={}", queueUrl);
     }
 
-    @Scheduled(fixedDelayString = "${worker.sqs.poll.delay-ms:1000}")
-    @Transactional
+    private boolean isBatchMode() {
+        return "batch".equalsIgnoreCase(consumerMode);
+    }
+
+    // In batch mode the long poll is the wait, so polls run back to back
+    @Scheduled(fixedDelayString = "#{'${worker.sqs.consumer.mode:single}' == 'batch' ? 10 : ${worker.sqs.poll.delay-ms:1000}}")
     public void poll() {
+        final boolean batch = isBatchMode();
+
         ReceiveMessageRequest req = ReceiveMessageRequest.builder()
                 .queueUrl(queueUrl)
-                .maxNumberOfMessages(1)
-                .waitTimeSeconds(1)
+                .maxNumberOfMessages(batch ? Math.max(1, Math.min(batchMaxMessages, SQS_MAX_BATCH)) : 1)
+                .waitTimeSeconds(batch ? Math.max(0, Math.min(batchWaitSeconds, SQS_MAX_WAIT_SECONDS)) : 1)
                 .messageAttributeNames("All")
+                .messageSystemAttributeNames(MessageSystemAttributeName.SENT_TIMESTAMP)
                 .build();
 
         metrics.incPoll("sqs");
         metrics.incSqsReceive();
 
         final List<Message> messages;
+        SqsCallEvent sqsEvent = SqsCallEvent.start();
         try {
             messages = sqsClient.receiveMessage(req).messages();
+            sqsEvent.commit("ReceiveMessage", messages.size(), 0);
         } catch (Exception ex) {
+            sqsEvent.commitError("ReceiveMessage", 0, ex);
             metrics.incPollError("sqs", "unknown");
             log.error("SQS receiveMessage failed. err={}", ex.toString());
             return;
@@ -77,60 +124,191 @@ public class SqsConsumerJob {
             return;
         }
 
+        Instant receivedAt = Instant.now();
+        for (Message m : messages) {
+            Instant sentAt = sentAt(m);
+            if (sentAt != null) metrics.recordQueueWait(sentAt, receivedAt);
+        }
+
+        if (batch) {
+            processBatch(messages);
+            return;
+        }
+
         Message m = messages.get(0);
+        if (isDone(handle(m))) {
+            deleteSingle(m);
+        }
+    }
 
+    private void processBatch(List<Message> messages) {
+        Queue<Message> toDelete = new ConcurrentLinkedQueue<>();
+
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(messages.size());
+        for (Message m : messages) {
+            inFlight.add(CompletableFuture.runAsync(() -> {
+                if (isDone(handle(m))) {
+                    toDelete.add(m);
+                }
+            }, processingExecutor));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+
+        deleteBatch(new ArrayList<>(toDelete));
+    }
+
+    /**
+     * Processes one message in its own transaction.
+     * Only PROCESSED messages are deleted; RETRY, FAILED and SKIPPED are left for the visibility timeout
+     * (redelivery, and the transport DLQ after maxReceiveCount). Terminal metrics and end-to-end latency are
+     * recorded only by the delivery that made the transition. Returns null on unexpected errors.
+     */
+    private ProcessOrderUseCase.Outcome handle(Message m) {
         String cid = null;
         if (m.messageAttributes() != null && m.messageAttributes().containsKey("correlationId")) {
             cid = m.messageAttributes().get("correlationId").stringValue();
         }
 
         if (cid != null && !cid.isBlank()) MDC.put("correlationId", cid);
+        OrderProcessingEvent processingEvent = OrderProcessingEvent.start("sqs");
         try {
-            metrics.recordProcessing(() -> {
+            return metrics.timeProcessing(() -> {
                 UUID orderId = extractOrderId(m.body());
+                processingEvent.orderId(orderId);
                 log.info("SQS message received. messageId={} orderId={}", m.messageId(), orderId);
 
                 Instant now = Instant.now();
-                ProcessOrderUseCase.Outcome outcome =
-                        processOrderUseCase.execute(orderId, now, maxRetries);
+                ProcessOrderUseCase.Outcome outcome = transactionTemplate.execute(tx ->
+                        processOrderUseCase.execute(orderId, now, maxRetries));
+                processingEvent.outcome(outcome);
 
                 if (outcome == ProcessOrderUseCase.Outcome.PROCESSED) {
-                    try {
-                        sqsClient.deleteMessage(DeleteMessageRequest.builder()
-                                .queueUrl(queueUrl)
-                                .receiptHandle(m.receiptHandle())
-                                .build());
-                        metrics.incSqsDeleteOk();
-                        metrics.incProcessed();
-                        log.info("Order {} PROCESSED. SQS message deleted. messageId={}", orderId, m.messageId());
-                    } catch (Exception ex) {
-                        metrics.incSqsDeleteFail();
-                        metrics.incFailed();
-                        log.error("SQS deleteMessage failed. messageId={} orderId={} err={}", m.messageId(), orderId, ex.toString());
-                        // Message not deleted -> will be redelivered (expected)
-                    }
+                    recordEndToEnd(true, m);
+                    log.info("Order {} PROCESSED. messageId={}", orderId, m.messageId());
+
+                } else if (outcome == ProcessOrderUseCase.Outcome.ALREADY_PROCESSED) {
+                    // redelivery of a message whose delete failed or timed out: delete it now
+                    log.info("Order {} already PROCESSED. messageId={}", orderId, m.messageId());
 
                 } else if (outcome == ProcessOrderUseCase.Outcome.RETRY) {
                     metrics.incFailed();
                     metrics.incRetried();
                     log.warn("Order {} RETRY. SQS message kept for redelivery after visibility timeout.", orderId);
 
-                } else {
+                } else if (outcome == ProcessOrderUseCase.Outcome.FAILED) {
                     // FAILED terminal by business logic. SQS will move to DLQ after maxReceiveCount.
                     metrics.incFailed();
                     metrics.incTerminalFailure();
+                    recordEndToEnd(false, m);
                     log.error("Order {} FAILED. SQS message kept; it will go to DLQ after maxReceiveCount.", orderId);
+
+                } else if (outcome == ProcessOrderUseCase.Outcome.SKIPPED) {
+                    // redelivery of an order that already FAILED, or is being processed by another delivery
+                    log.warn("Order {} not PENDING; nothing done. SQS message kept. messageId={}", orderId, m.messageId());
                 }
+                return outcome;
             });
 
         } catch (Exception ex) {
             metrics.incFailed();
             log.error("Error handling SQS messageId={}. Message kept for redelivery. err={}", m.messageId(), ex.toString());
+            return null;
         } finally {
+            processingEvent.finish();
             MDC.remove("correlationId");
         }
     }
 
+    private static boolean isDone(ProcessOrderUseCase.Outcome outcome) {
+        return outcome == ProcessOrderUseCase.Outcome.PROCESSED || outcome == ProcessOrderUseCase.Outcome.ALREADY_PROCESSED;
+    }
+
+    private void deleteSingle(Message m) {
+        SqsCallEvent sqsEvent = SqsCallEvent.start();
+        try {
+            sqsClient.deleteMessage(DeleteMessageRequest.builder()
+                    .queueUrl(queueUrl)
+                    .receiptHandle(m.receiptHandle())
+                    .build());
+            sqsEvent.commit("DeleteMessage", 1, 0);
+            metrics.incSqsDeleteOk();
+            metrics.incProcessed();
+            log.info("SQS message deleted after PROCESSED. messageId={}", m.messageId());
+        } catch (Exception ex) {
+            sqsEvent.commitError("DeleteMessage", 1, ex);
+            metrics.incSqsDeleteFail();
+            metrics.incFailed();
+            log.error("SQS deleteMessage failed. messageId={} err={}", m.messageId(), ex.toString());
+            // Message not deleted -> will be redelivered (expected)
+        }
+    }
+
+    private void deleteBatch(List<Message> processed) {
+        if (processed.isEmpty()) return;
+
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(processed.size());
+        for (int i = 0; i < processed.size(); i++) {
+            entries.add(DeleteMessageBatchRequestEntry.builder()
+                    .id(Integer.toString(i))
+                    .receiptHandle(processed.get(i).receiptHandle())
+                    .build());
+        }
+
+        final DeleteMessageBatchResponse response;
+        SqsCallEvent sqsEvent = SqsCallEvent.start();
+        try {
+            response = sqsClient.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(entries)
+                    .build());
+            sqsEvent.commit("DeleteMessageBatch", entries.size(), response.failed().size());
+        } catch (Exception ex) {
+            sqsEvent.commitError("DeleteMessageBatch", entries.size(), ex);
+            for (int i = 0; i < processed.size(); i++) {
+                metrics.incSqsDeleteFail();
+                metrics.incFailed();
+            }
+            log.error("SQS deleteMessageBatch failed for {} messages. They will be redelivered. err={}",
+                    processed.size(), ex.toString());
+            return;
+        }
+
+        for (int i = 0; i < response.successful().size(); i++) {
+            metrics.incSqsDeleteOk();
+            metrics.incProcessed();
+        }
+        for (BatchResultErrorEntry failed : response.failed()) {
+            Message m = processed.get(Integer.parseInt(failed.id()));
+            metrics.incSqsDeleteFail();
+            metrics.incFailed();
+            log.error("SQS delete failed. messageId={} code={} err={}", m.messageId(), failed.code(), failed.message());
+            // Message not deleted -> will be redelivered (expected)
+        }
+        log.info("SQS deleteMessageBatch done. deleted={} failed={}", response.successful().size(), response.failed().size());
+    }
+
+
+    private void recordEndToEnd(boolean processed, Message m) {
+        // set by the outbox relay; messages sent straight by the API leave right after the order commits
+        MessageAttributeValue created = m.messageAttributes().get(OutboxToSqsRelayJob.ORDER_CREATED_AT_ATTRIBUTE);
+        Instant createdAt = created != null ? epochMillis(created.stringValue()) : null;
+        if (createdAt == null) createdAt = sentAt(m);
+        if (createdAt != null) metrics.recordEndToEnd(processed, createdAt, Instant.now());
+    }
+
+    // SentTimestamp: when SQS accepted the message (the first send, for redeliveries)
+    private static Instant sentAt(Message m) {
+        return epochMillis(m.attributes().get(MessageSystemAttributeName.SENT_TIMESTAMP));
+    }
+
+    private static Instant epochMillis(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(value.trim()));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
 
     private UUID extractOrderId(String body) {
         // {"orderId":"..."}
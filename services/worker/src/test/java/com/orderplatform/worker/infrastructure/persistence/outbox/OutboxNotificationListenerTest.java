@@ -0,0 +1,68 @@
+package com.orderplatform.worker.infrastructure.persistence.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxNotificationListenerTest {
+
+    // enabled, but never started: no LISTEN connection, so only retries and the fallback end a wait
+    private static OutboxNotificationListener listener(long fallbackPollMs) {
+        OutboxNotificationListener listener = new OutboxNotificationListener();
+        ReflectionTestUtils.setField(listener, "enabled", true);
+        ReflectionTestUtils.setField(listener, "fallbackPollMs", fallbackPollMs);
+        return listener;
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @Test
+    void everyScheduledRetryCutsItsOwnWaitShort() throws Exception {
+        OutboxNotificationListener listener = listener(10_000);
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        listener.expectRetryAt(now.plusMillis(600));
+        listener.expectRetryAt(now.plusMillis(200));
+
+        listener.awaitWork();
+        assertThat(millisSince(start)).isBetween(150L, 500L);
+
+        // the later retry is still armed after the first one fired
+        listener.awaitWork();
+        assertThat(millisSince(start)).isBetween(550L, 2_000L);
+    }
+
+    @Test
+    void retryAlreadyDueDoesNotWait() throws Exception {
+        OutboxNotificationListener listener = listener(10_000);
+        listener.expectRetryAt(Instant.now().minusSeconds(1));
+
+        long start = System.nanoTime();
+        listener.awaitWork();
+        assertThat(millisSince(start)).isLessThan(500L);
+    }
+
+    @Test
+    void withoutRetriesTheWaitEndsAtTheFallbackPoll() throws Exception {
+        OutboxNotificationListener listener = listener(300);
+
+        long start = System.nanoTime();
+        listener.awaitWork();
+        assertThat(millisSince(start)).isBetween(250L, 2_000L);
+    }
+
+    @Test
+    void disabledListenerNeverWaits() throws Exception {
+        OutboxNotificationListener listener = new OutboxNotificationListener();
+        listener.expectRetryAt(Instant.now().plusSeconds(60));
+
+        long start = System.nanoTime();
+        listener.awaitWork();
+        assertThat(millisSince(start)).isLessThan(500L);
+    }
+}
@@ -0,0 +1,56 @@
+package com.orderplatform.worker.job;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveBatchSizerTest {
+
+    private static final long FAST = 1_000_000L;          // 1 ms
+    private static final long SLOW = 2_000_000_000L;      // 2 s, over the 1 s target
+
+    private final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(5, 50, 1_000, 10);
+
+    @Test
+    void fullFastBatchesGrowByTheStepUpToMax() {
+        assertThat(sizer.next()).isEqualTo(5);
+
+        sizer.onBatch(5, 5, FAST, false);
+        assertThat(sizer.next()).isEqualTo(15);
+        sizer.onBatch(15, 15, FAST, false);
+        assertThat(sizer.next()).isEqualTo(25);
+
+        for (int i = 0; i < 10; i++) {
+            sizer.onBatch(sizer.next(), sizer.next(), FAST, false);
+        }
+        assertThat(sizer.next()).isEqualTo(50);
+    }
+
+    @Test
+    void partialHealthyBatchHoldsTheSize() {
+        sizer.onBatch(5, 5, FAST, false);
+
+        sizer.onBatch(15, 7, FAST, false);
+        assertThat(sizer.next()).isEqualTo(15);
+        sizer.onBatch(15, 0, FAST, false);
+        assertThat(sizer.next()).isEqualTo(15);
+    }
+
+    @Test
+    void slowBatchErrorsAndClaimFailuresHalveDownToMin() {
+        for (int i = 0; i < 5; i++) {
+            sizer.onBatch(sizer.next(), sizer.next(), FAST, false);
+        }
+        assertThat(sizer.next()).isEqualTo(50);
+
+        sizer.onBatch(50, 50, SLOW, false);
+        assertThat(sizer.next()).isEqualTo(25);
+        sizer.onBatch(25, 10, FAST, true);
+        assertThat(sizer.next()).isEqualTo(12);
+        sizer.onError();
+        assertThat(sizer.next()).isEqualTo(6);
+        sizer.onError();
+        assertThat(sizer.next()).isEqualTo(5);
+        assertThat(sizer.current().get()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,166 @@
+package com.orderplatform.worker.job;
+
+import com.orderplatform.core.application.model.OutboxEvent;
+import com.orderplatform.core.application.model.OutboxReschedule;
+import com.orderplatform.core.application.port.OutboxRepository;
+import com.orderplatform.core.application.retry.RetryPolicy;
+import com.orderplatform.worker.config.WorkerIdentity;
+import com.orderplatform.worker.infrastructure.observability.WorkerMetrics;
+import com.orderplatform.worker.infrastructure.persistence.outbox.OutboxNotificationListener;
+import com.orderplatform.worker.infrastructure.persistence.outbox.OutboxPartitionAssignment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxToSqsRelayJobTest {
+
+    private final OutboxRepository outbox = mock(OutboxRepository.class);
+
+    @Test
+    void relaysInBatchesOfTenAndReschedulesPartialFailures() {
+        List<OutboxEvent> events = pendingEvents(12);
+        UUID rejected = events.get(3).id();
+        FakeSqs sqs = new FakeSqs(Set.of(rejected.toString()), false);
+        when(outbox.claimReady(anyInt(), any(), anyString())).thenReturn(events);
+
+        newJob(sqs).pollAndRelay();
+
+        assertThat(sqs.batches).extracting(List::size).containsExactly(10, 2);
+        assertThat(sqs.batches.get(0).get(0).id()).isEqualTo(events.get(0).id().toString());
+
+        List<UUID> processed = captureProcessed();
+        assertThat(processed).hasSize(11).doesNotContain(rejected);
+
+        List<OutboxReschedule> rescheduled = captureRescheduled();
+        assertThat(rescheduled).singleElement().satisfies(r -> {
+            assertThat(r.eventId()).isEqualTo(rejected);
+            assertThat(r.lastError()).contains("InternalError");
+        });
+    }
+
+    @Test
+    void reschedulesWholeChunkWhenTheCallFails() {
+        List<OutboxEvent> events = pendingEvents(3);
+        when(outbox.claimReady(anyInt(), any(), anyString())).thenReturn(events);
+
+        newJob(new FakeSqs(Set.of(), true)).pollAndRelay();
+
+        assertThat(captureProcessed()).isEmpty();
+        assertThat(captureRescheduled()).extracting(OutboxReschedule::eventId)
+                .containsExactlyElementsOf(events.stream().map(OutboxEvent::id).toList());
+    }
+
+    private OutboxToSqsRelayJob newJob(SqsClient sqs) {
+        WorkerMetrics metrics = new WorkerMetrics(new SimpleMeterRegistry());
+        WorkerIdentity identity = new WorkerIdentity("relay-test");
+        return new OutboxToSqsRelayJob(
+                outbox,
+                sqs,
+                metrics,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new OutboxNotificationListener(),
+                new OutboxPartitionAssignment(mock(JdbcTemplate.class), identity, metrics),
+                identity,
+                new RetryPolicy(Duration.ofSeconds(1), Duration.ofMinutes(1), 2.0, RetryPolicy.Jitter.EQUAL, Map.of()),
+                "http://localhost:4566/000000000000/order-events",
+                5, 200, 10_000, 10
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UUID> captureProcessed() {
+        ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(outbox).markProcessed(ids.capture(), any(Instant.class));
+        return new ArrayList<>(ids.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxReschedule> captureRescheduled() {
+        ArgumentCaptor<Collection<OutboxReschedule>> reschedules = ArgumentCaptor.forClass(Collection.class);
+        verify(outbox).reschedule(reschedules.capture());
+        return new ArrayList<>(reschedules.getValue());
+    }
+
+    private static List<OutboxEvent> pendingEvents(int n) {
+        Instant now = Instant.now();
+        return IntStream.range(0, n)
+                .mapToObj(i -> {
+                    UUID orderId = UUID.randomUUID();
+                    String payload = "{\"orderId\":\"" + orderId + "\",\"correlationId\":\"c-" + i + "\"}";
+                    return OutboxEvent.pending(orderId, "OrderCreated", payload, now);
+                })
+                .toList();
+    }
+
+    /** In-process SQS stand-in: accepts every entry except the rejected ids, or fails the whole call. */
+    private static final class FakeSqs implements SqsClient {
+
+        private final Set<String> rejectedIds;
+        private final boolean failCall;
+        private final List<List<SendMessageBatchRequestEntry>> batches = new ArrayList<>();
+
+        private FakeSqs(Set<String> rejectedIds, boolean failCall) {
+            this.rejectedIds = rejectedIds;
+            this.failCall = failCall;
+        }
+
+        @Override
+        public SendMessageBatchResponse sendMessageBatch(SendMessageBatchRequest request) {
+            batches.add(request.entries());
+            if (failCall) {
+                throw SdkClientException.create("connection refused");
+            }
+
+            SendMessageBatchResponse.Builder response = SendMessageBatchResponse.builder();
+            List<SendMessageBatchResultEntry> ok = new ArrayList<>();
+            List<BatchResultErrorEntry> failed = new ArrayList<>();
+            for (SendMessageBatchRequestEntry e : request.entries()) {
+                if (rejectedIds.contains(e.id())) {
+                    failed.add(BatchResultErrorEntry.builder()
+                            .id(e.id()).code("InternalError").message("try again").senderFault(false).build());
+                } else {
+                    ok.add(SendMessageBatchResultEntry.builder()
+                            .id(e.id()).messageId(UUID.randomUUID().toString()).build());
+                }
+            }
+            return response.successful(ok).failed(failed).build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "sqs";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}